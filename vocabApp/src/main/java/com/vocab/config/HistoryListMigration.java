@@ -0,0 +1,48 @@
+package com.vocab.config;
+
+import com.vocab.repository.VocabListRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Flags the history list of users who registered before VocabList had a history flag.
+ *
+ * Until now the history list was simply each user's oldest list, so that is the one
+ * flagged, provided it still carries the history list's name. Users who already have a
+ * flagged list are left alone, which makes the pass safe to run on every startup.
+ *
+ * It runs before the web server starts, after the indexes are provisioned, and a failure
+ * stops startup: a legacy user reaching exclude-history first would otherwise get an
+ * empty history list and never be migrated.
+ */
+@Component
+@DependsOn("mongoIndexConfig")
+public class HistoryListMigration {
+
+    @Autowired
+    private VocabListRepository vocabListRepository;
+
+    @Value("${vocab.lists.migrate-history:true}")
+    private boolean enabled = true;
+
+    @PostConstruct
+    public void migrate() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<String> listIds = vocabListRepository.findUnflaggedHistoryListIds();
+            long flagged = vocabListRepository.markHistory(listIds);
+            if (flagged > 0) {
+                System.out.println(" Flagged " + flagged + " existing history lists");
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("History list migration failed", e);
+        }
+    }
+}
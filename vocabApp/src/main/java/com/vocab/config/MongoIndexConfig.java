@@ -0,0 +1,245 @@
+package com.vocab.config;
+
+import com.vocab.model.Dictionary;
+import com.vocab.model.Tombstone;
+import com.vocab.model.User;
+import com.vocab.model.VocabList;
+import com.vocab.model.WordInList;
+import jakarta.annotation.PostConstruct;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Creates the indexes declared on the @Document classes before the web server starts and,
+ * when vocab.mongo.verify-query-plans is on, explains every repository query and refuses to
+ * start if any of them would scan a whole collection.
+ *
+ * Spring's own auto index creation is off by default, so without this the
+ * @Indexed/@CompoundIndex annotations on the models would never reach Mongo. The unique
+ * ones are what keep registration and addWord from writing duplicates, so startup fails
+ * if any of them is missing, whether or not this instance was the one to create them.
+ * Duplicates written before an index existed would block it, so they are resolved by
+ * {@link UniqueIndexCleanup} first. With vocab.mongo.create-indexes off, neither step
+ * runs and the indexes must already be in place.
+ */
+@Component
+public class MongoIndexConfig {
+
+    private static final List<Class<?>> DOCUMENTS = List.of(
+            Dictionary.class, User.class, VocabList.class, WordInList.class, Tombstone.class);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MongoMappingContext mongoMappingContext;
+
+    @Autowired
+    private UniqueIndexCleanup uniqueIndexCleanup;
+
+    @Value("${vocab.mongo.create-indexes:true}")
+    private boolean createIndexes;
+
+    @Value("${vocab.mongo.verify-query-plans:false}")
+    private boolean verifyQueryPlans;
+
+    // runs while the context is still being built, so no request is served without them
+    @PostConstruct
+    public void provisionIndexes() {
+        if (createIndexes) {
+            removeDuplicates();
+            createIndexes();
+        }
+        requireUniqueIndexes();
+        if (verifyQueryPlans) {
+            verifyQueryPlans();
+        }
+    }
+
+    // only for unique indexes that don't exist yet; an existing one already rules duplicates out
+    public void removeDuplicates() {
+        IndexResolver resolver = IndexResolver.create(mongoMappingContext);
+        for (Class<?> type : DOCUMENTS) {
+            List<IndexInfo> existing = mongoTemplate.indexOps(type).getIndexInfo();
+            for (IndexDefinition index : resolver.resolveIndexFor(type)) {
+                if (isUnique(index) && !hasUniqueIndex(existing, index)) {
+                    uniqueIndexCleanup.resolveDuplicates(type, index);
+                }
+            }
+        }
+    }
+
+    public void createIndexes() {
+        IndexResolver resolver = IndexResolver.create(mongoMappingContext);
+        for (Class<?> type : DOCUMENTS) {
+            IndexOperations indexOps = mongoTemplate.indexOps(type);
+            for (IndexDefinition index : resolver.resolveIndexFor(type)) {
+                try {
+                    indexOps.createIndex(index);
+                } catch (Exception e) {
+                    // e.g. existing duplicates block a unique index; requireUniqueIndexes decides if that is fatal
+                    System.err.println("⚠️ Could not create index " + index.getIndexKeys() + " on "
+                            + mongoTemplate.getCollectionName(type) + ": " + e.getMessage());
+                }
+            }
+        }
+        System.out.println(" Mongo indexes provisioned");
+    }
+
+    public void requireUniqueIndexes() {
+        IndexResolver resolver = IndexResolver.create(mongoMappingContext);
+        List<String> missing = new ArrayList<>();
+        for (Class<?> type : DOCUMENTS) {
+            List<IndexInfo> existing = mongoTemplate.indexOps(type).getIndexInfo();
+            for (IndexDefinition index : resolver.resolveIndexFor(type)) {
+                if (isUnique(index) && !hasUniqueIndex(existing, index)) {
+                    missing.add(mongoTemplate.getCollectionName(type) + " " + index.getIndexKeys().toJson());
+                }
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Required unique indexes are missing: " + missing);
+        }
+    }
+
+    static boolean isUnique(IndexDefinition index) {
+        return Boolean.TRUE.equals(index.getIndexOptions().get("unique"));
+    }
+
+    // matched on the key fields in order, since an index created by hand may carry another name
+    static boolean hasUniqueIndex(List<IndexInfo> existing, IndexDefinition index) {
+        List<String> keys = new ArrayList<>(index.getIndexKeys().keySet());
+        for (IndexInfo info : existing) {
+            if (info.isUnique() && keys.equals(info.getIndexFields().stream().map(IndexField::getKey).toList())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void verifyQueryPlans() {
+        List<String> scans = new ArrayList<>();
+        for (PlannedQuery query : plannedQueries()) {
+            Document plan = mongoTemplate.getCollection(query.collection)
+                    .find(query.filter)
+                    .sort(query.sort)
+                    .limit(query.limit)
+                    .explain();
+            Document queryPlanner = plan.get("queryPlanner", Document.class);
+            if (queryPlanner != null && containsStage(queryPlanner.get("winningPlan"), "COLLSCAN")) {
+                scans.add(query.name);
+            }
+        }
+        if (!scans.isEmpty()) {
+            throw new IllegalStateException("Queries would scan whole collections: " + scans);
+        }
+        System.out.println(" Verified query plans for " + plannedQueries().size() + " repository queries");
+    }
+
+    // one entry per repository query, shaped the way Spring Data sends it
+    static List<PlannedQuery> plannedQueries() {
+        List<PlannedQuery> queries = new ArrayList<>();
+        queries.add(new PlannedQuery("DictionaryRepository.findByWord", "dictionary",
+                new Document("word", "example")));
+        queries.add(new PlannedQuery("DictionaryRepository.findByWordIn", "dictionary",
+                new Document("word", new Document("$in", List.of("example", "test")))));
+        queries.add(new PlannedQuery("DictionaryRepository.findFirstByOrderByUpdatedAtDesc", "dictionary",
+                new Document(), new Document("updatedAt", -1), 1));
+        queries.add(new PlannedQuery("DictionaryRepository.findWrittenAfter", "dictionary",
+                new Document("updatedAt", new Document("$gt", new Date()))));
+        queries.add(new PlannedQuery("UserRepository.findByEmail", "users",
+                new Document("email", "someone@example.com")));
+        queries.add(new PlannedQuery("VocabListRepository.findByUserId", "vocablists",
+                new Document("userId", "user").append("deletedAt", null)));
+        queries.add(new PlannedQuery("VocabListRepository.ensureHistoryList", "vocablists",
+                new Document("userId", "user").append("history", true).append("deletedAt", null)));
+        queries.add(new PlannedQuery("WordInListRepository.findByUserIdAndListId", "wordinlists",
+                new Document("userId", "user").append("listId", "list")));
+        queries.add(new PlannedQuery("WordInListRepository.findByUserIdAndListIdAndWord", "wordinlists",
+                new Document("userId", "user").append("listId", "list").append("word", "example")));
+        queries.add(new PlannedQuery("WordInListRepository.findByUserIdAndListIdAndWordIn", "wordinlists",
+                new Document("userId", "user").append("listId", "list")
+                        .append("word", new Document("$in", List.of("example", "test")))));
+        queries.add(new PlannedQuery("WordInListRepository.findPageAfter", "wordinlists",
+                new Document("userId", "user").append("listId", "list"),
+                new Document("addedAt", 1).append("_id", 1), 50));
+        queries.add(new PlannedQuery("WordInListRepository.findByUserIdAndDueAtLessThanEqualAndListIdNotInOrderByDueAtAsc", "wordinlists",
+                new Document("userId", "user").append("dueAt", new Document("$lte", new Date()))
+                        .append("listId", new Document("$nin", List.of("deleted"))),
+                new Document("dueAt", 1), 20));
+        queries.add(new PlannedQuery("WordInListRepository.findByUserId", "wordinlists",
+                new Document("userId", "user")));
+        queries.add(new PlannedQuery("WordInListRepository.findByListId", "wordinlists",
+                new Document("listId", "list")));
+        queries.add(new PlannedQuery("WordInListRepository.countWordsByList", "wordinlists",
+                new Document("listId", new Document("$in", List.of("list", "other")))));
+        queries.add(new PlannedQuery("VocabListRepository.findCountsPage", "vocablists",
+                new Document("_id", new Document("$gt", "list")), new Document("_id", 1), 500));
+        queries.add(new PlannedQuery("VocabListRepository.claimForPurge", "vocablists",
+                new Document("deletedAt", new Document("$ne", null))
+                        .append("$or", List.of(new Document("purgeClaimedUntil", null),
+                                new Document("purgeClaimedUntil", new Document("$lt", new Date()))))));
+        queries.add(new PlannedQuery("VocabListRepository.findDeletedByUserId", "vocablists",
+                new Document("userId", "user").append("deletedAt", new Document("$ne", null))));
+        queries.add(new PlannedQuery("VocabListRepository.findByUserIdAndUpdatedAtGreaterThan", "vocablists",
+                new Document("userId", "user").append("updatedAt", new Document("$gt", new Date()))));
+        queries.add(new PlannedQuery("WordInListRepository.findByUserIdAndUpdatedAtGreaterThan", "wordinlists",
+                new Document("userId", "user").append("updatedAt", new Document("$gt", new Date()))));
+        queries.add(new PlannedQuery("TombstoneRepository.findByUserIdAndDeletedAtGreaterThan", "tombstones",
+                new Document("userId", "user").append("deletedAt", new Document("$gt", new Date()))));
+        return queries;
+    }
+
+    static boolean containsStage(Object plan, String stage) {
+        if (plan instanceof Document document) {
+            if (stage.equals(document.get("stage"))) {
+                return true;
+            }
+            for (Object value : document.values()) {
+                if (containsStage(value, stage)) {
+                    return true;
+                }
+            }
+        } else if (plan instanceof List<?> list) {
+            for (Object value : list) {
+                if (containsStage(value, stage)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    static final class PlannedQuery {
+        private final String name;
+        private final String collection;
+        private final Document filter;
+        private final Document sort;
+        private final int limit;
+
+        PlannedQuery(String name, String collection, Document filter) {
+            this(name, collection, filter, new Document(), 0);
+        }
+
+        PlannedQuery(String name, String collection, Document filter, Document sort, int limit) {
+            this.name = name;
+            this.collection = collection;
+            this.filter = filter;
+            this.sort = sort;
+            this.limit = limit;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.vocab.config;
+
+import com.vocab.repository.WordInListRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gives words saved before spaced repetition existed a dueAt (their addedAt), so they
+ * show up in the review queue. Only words without a dueAt are touched, which makes the
+ * pass safe to run on every startup.
+ */
+@Component
+public class ReviewScheduleMigration {
+
+    @Autowired
+    private WordInListRepository wordInListRepository;
+
+    @Value("${vocab.review.migrate-due-dates:true}")
+    private boolean enabled = true;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long updated = wordInListRepository.initializeDueDates();
+            if (updated > 0) {
+                System.out.println(" Scheduled " + updated + " existing words for review");
+            }
+        } catch (Exception e) {
+            System.err.println("⚠️ Review schedule migration failed: " + e.getMessage());
+        }
+    }
+}
@@ -1,23 +1,54 @@
 package com.vocab.config;
 
+import com.vocab.service.TokenService;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
     
+    @Autowired
+    private TokenService tokenService;
+    
+    // off until every client sends the access token from /api/auth/login
+    @Value("${vocab.auth.token.required:false}")
+    private boolean tokenRequired;
+    
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
             .csrf(csrf -> csrf.disable())
-            .authorizeHttpRequests(auth -> auth
-                .anyRequest().permitAll()
-            );
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .addFilterBefore(new TokenAuthenticationFilter(tokenService), UsernamePasswordAuthenticationFilter.class)
+            .exceptionHandling(exceptions -> exceptions
+                .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+            .authorizeHttpRequests(auth -> {
+                if (tokenRequired) {
+                    // dictionary reads are public; adding and importing words needs a signed-in user
+                    auth.dispatcherTypeMatchers(DispatcherType.ERROR).permitAll()
+                        .requestMatchers("/api/auth/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/dictionary/random", "/api/dictionary/word/**",
+                                "/api/dictionary/suggest", "/api/dictionary/did-you-mean/**", "/api/dictionary/search")
+                            .permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/dictionary/words").permitAll()
+                        .anyRequest().authenticated();
+                } else {
+                    auth.anyRequest().permitAll();
+                }
+            });
         
         return http.build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,67 @@
+package com.vocab.config;
+
+import com.vocab.service.TokenService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Authenticates requests carrying "Authorization: Bearer <access token>" by checking the
+ * token's signature in memory; no session or database read is involved.
+ *
+ * A valid token makes the user id the principal (for @AuthenticationPrincipal) and sets
+ * it as the {@link #USER_ID_ATTRIBUTE} request attribute. A bad or expired token counts
+ * as no token at all: the request passes through unauthenticated and the rules in
+ * {@link SecurityConfig} decide, so a route that needs a user answers 401 and the client
+ * refreshes, while open routes such as /api/auth/refresh still work for a client that
+ * attaches its stale token to every request.
+ */
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    public static final String USER_ID_ATTRIBUTE = "vocab.userId";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final TokenService tokenService;
+
+    public TokenAuthenticationFilter(TokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    // async responses are dispatched a second time and need the user set again
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            chain.doFilter(request, response);
+            return;
+        }
+        String userId = tokenService.verifyAccessToken(header.substring(BEARER_PREFIX.length()).trim());
+        if (userId == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        request.setAttribute(USER_ID_ATTRIBUTE, userId);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userId, null, List.of()));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.vocab.config;
+
+import com.vocab.model.Tombstone;
+import com.vocab.model.User;
+import com.vocab.model.VocabList;
+import com.vocab.model.WordInList;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Clears out the duplicates that keep a unique index from being built, so
+ * {@link MongoIndexConfig} can create it instead of refusing to start.
+ *
+ * Before the unique indexes existed, registration and adding words checked for an
+ * existing document and then inserted, so concurrent requests could write the same email
+ * or list word twice. For each group of documents sharing a unique key the oldest (lowest
+ * _id) is kept and the others are resolved by collection:
+ *   - users: the extra accounts are kept but their email gets a "#duplicate-<id>" suffix,
+ *     so nothing they own is lost and they can be merged by hand
+ *   - wordinlists: the extra copies are removed and tombstoned so syncing clients drop
+ *     them too; the reconciler corrects the list's wordCount on its next pass
+ *   - vocablists: the extra lists lose their history flag and become regular lists
+ *   - dictionary: the extra entries are removed
+ * It is only run for indexes that are still missing, so once they exist it costs nothing.
+ */
+@Component
+public class UniqueIndexCleanup {
+
+    static final String DUPLICATE_EMAIL_SUFFIX = "#duplicate-";
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    /** Resolves every duplicate of the index's keys in a collection; returns how many documents changed. */
+    public int resolveDuplicates(Class<?> type, IndexDefinition index) {
+        String collection = mongoTemplate.getCollectionName(type);
+        int resolved = 0;
+        for (Document group : mongoTemplate.aggregate(duplicates(index), collection, Document.class)) {
+            List<Object> ids = group.getList("ids", Object.class);
+            List<Object> extras = new ArrayList<>(ids.subList(1, ids.size()));
+            resolved += resolve(type, collection, group.get("_id", Document.class), extras);
+        }
+        if (resolved > 0) {
+            System.out.println(" Resolved " + resolved + " duplicate " + collection + " on "
+                    + index.getIndexKeys().toJson() + " before indexing");
+        }
+        return resolved;
+    }
+
+    // groups of more than one document per key, each group's ids oldest first
+    static Aggregation duplicates(IndexDefinition index) {
+        Document key = new Document();
+        for (String field : index.getIndexKeys().keySet()) {
+            key.append(field, "$" + field);
+        }
+        List<AggregationOperation> stages = new ArrayList<>();
+        if (index.getIndexOptions().get("partialFilterExpression") instanceof Document filter) {
+            stages.add(Aggregation.stage(new Document("$match", filter)));
+        }
+        stages.add(Aggregation.stage(new Document("$sort", new Document("_id", 1))));
+        stages.add(Aggregation.stage(new Document("$group", new Document("_id", key)
+                .append("ids", new Document("$push", "$_id"))
+                .append("count", new Document("$sum", 1)))));
+        stages.add(Aggregation.stage(new Document("$match", new Document("count", new Document("$gt", 1)))));
+        return Aggregation.newAggregation(stages)
+                .withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+    }
+
+    private int resolve(Class<?> type, String collection, Document key, List<Object> extras) {
+        if (type == User.class) {
+            Object email = key.get("email");
+            for (Object id : extras) {
+                mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(id)),
+                        new Update().set("email", (email == null ? "" : email) + DUPLICATE_EMAIL_SUFFIX + id),
+                        collection);
+            }
+            System.err.println("⚠️ Renamed duplicate accounts of " + email + " for manual review: " + extras);
+            return extras.size();
+        }
+        Query byIds = Query.query(Criteria.where("_id").in(extras));
+        if (type == VocabList.class) {
+            return (int) mongoTemplate.updateMulti(byIds, new Update().unset("history"), collection)
+                    .getModifiedCount();
+        }
+        if (type == WordInList.class) {
+            List<Tombstone> tombstones = new ArrayList<>(extras.size());
+            for (Object id : extras) {
+                tombstones.add(new Tombstone(key.getString("userId"), Tombstone.TYPE_WORD, id.toString(),
+                        key.getString("listId")));
+            }
+            mongoTemplate.insert(tombstones, Tombstone.class);
+        }
+        return (int) mongoTemplate.remove(byIds, collection).getDeletedCount();
+    }
+}
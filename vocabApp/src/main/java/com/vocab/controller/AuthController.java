@@ -1,18 +1,27 @@
 package com.vocab.controller;
 
 import com.vocab.model.User;
-import com.vocab.model.VocabList;
 import com.vocab.repository.UserRepository;
-import com.vocab.repository.VocabListRepository;
+import com.vocab.service.LoginThrottle;
+import com.vocab.service.PasswordHashingService;
+import com.vocab.service.RepositoryReadCoalescer;
+import com.vocab.service.TokenService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 @RestController
 @RequestMapping("/api/auth")
 @CrossOrigin(origins = "*")
@@ -22,67 +31,113 @@ public class AuthController {
     private UserRepository userRepository;
     
     @Autowired
-    private VocabListRepository vocabListRepository;
+    private RepositoryReadCoalescer repositoryReadCoalescer;
     
-    private BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+    
+    @Autowired
+    private LoginThrottle loginThrottle;
     
+    @Autowired
+    private TokenService tokenService;
+    
+    // Mongo writes after a hash go here, so a slow write never holds a password-hash thread
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private Executor taskExecutor;
+    
+    // one insert: the unique email index rejects duplicates, and the history list is created on first use
     @PostMapping("/register")
-    public ResponseEntity<?> register(@RequestBody User user) {
+    public CompletableFuture<ResponseEntity<?>> register(@RequestBody User user) {
         try {
             if (user.getEmail() == null || user.getPassword() == null || 
                 user.getSecurityQuestion() == null || user.getSecurityAnswer() == null) {
-                return ResponseEntity.badRequest().body(Map.of("error", "All fields are required"));
-            }
-            
-            if (userRepository.existsByEmail(user.getEmail())) {
-                return ResponseEntity.badRequest().body(Map.of("error", "This email is already registered"));
+                return CompletableFuture.completedFuture(
+                        ResponseEntity.badRequest().body(Map.of("error", "All fields are required")));
             }
             
-            user.setPassword(passwordEncoder.encode(user.getPassword()));
-            User savedUser = userRepository.save(user);
-            
-            VocabList defaultList = new VocabList();
-            defaultList.setUserId(savedUser.getId());
-            defaultList.setListName("Vocab Word History");
-            vocabListRepository.save(defaultList);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("message", "Sign Up Successful");
-            response.put("userId", savedUser.getId());
-            
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+            return passwordHashingService.encode(user.getPassword()).<ResponseEntity<?>>thenApplyAsync(hash -> {
+                user.setPassword(hash);
+                User savedUser;
+                try {
+                    savedUser = userRepository.insert(user);
+                } catch (DuplicateKeyException e) {
+                    return ResponseEntity.badRequest().body(Map.of("error", "This email is already registered"));
+                }
+                
+                Map<String, Object> response = new HashMap<>();
+                response.put("message", "Sign Up Successful");
+                response.put("userId", savedUser.getId());
+                
+                return ResponseEntity.status(HttpStatus.CREATED).body(response);
+            }, taskExecutor).exceptionally(error -> hashingFailed(error, "Sign Up Failed"));
         } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Map.of("error", "Sign Up Failed"));
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Sign Up Failed")));
         }
     }
     
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody Map<String, String> credentials) {
+    public CompletableFuture<ResponseEntity<?>> login(@RequestBody Map<String, String> credentials,
+                                                      HttpServletRequest httpRequest) {
         try {
             String email = credentials.get("email");
             String password = credentials.get("password");
             
-            Optional<User> userOpt = userRepository.findByEmail(email);
+            long retryAfterMillis = loginThrottle.tryAcquire(email, clientIp(httpRequest));
+            if (retryAfterMillis > 0) {
+                return CompletableFuture.completedFuture(tooManyAttempts(retryAfterMillis));
+            }
+            
+            Optional<User> userOpt = repositoryReadCoalescer.findUserByEmail(email, () -> userRepository.findByEmail(email));
             if (userOpt.isEmpty()) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                        .body(Map.of("error", "User not found"));
+                return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Map.of("error", "User not found")));
             }
             
             User user = userOpt.get();
-            if (!passwordEncoder.matches(password, user.getPassword())) {
+            return passwordHashingService.matches(password, user.getPassword()).<ResponseEntity<?>>thenApply(matches -> {
+                if (!matches) {
+                    return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                            .body(Map.of("error", "Incorrect password"));
+                }
+                
+                upgradeHash(user, password);
+                
+                Map<String, Object> response = new HashMap<>();
+                response.put("message", "Login successful");
+                response.put("userId", user.getId());
+                response.putAll(tokenService.issue(user.getId(), user.getTokenVersion()));
+                
+                return ResponseEntity.ok(response);
+            }).exceptionally(error -> hashingFailed(error, "Login Failed"));
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Login Failed")));
+        }
+    }
+    
+    // the one token check that reads Mongo: a password reset since the token was issued revokes it
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestBody Map<String, String> request) {
+        try {
+            TokenService.RefreshToken refreshToken = tokenService.verifyRefreshToken(request.get("refreshToken"));
+            Optional<User> userOpt = refreshToken == null ? Optional.empty()
+                    : userRepository.findById(refreshToken.userId());
+            if (userOpt.isEmpty() || userOpt.get().getTokenVersion() != refreshToken.tokenVersion()) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                        .body(Map.of("error", "Incorrect password"));
+                        .body(Map.of("error", "Invalid or expired refresh token"));
             }
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("message", "Login successful");
+            User user = userOpt.get();
+            Map<String, Object> response = new HashMap<>(tokenService.issue(user.getId(), user.getTokenVersion()));
             response.put("userId", user.getId());
             
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Map.of("error", "Login Failed"));
+                    .body(Map.of("error", "An error occurred"));
         }
     }
     
@@ -90,7 +145,7 @@ public class AuthController {
     public ResponseEntity<?> forgotPassword(@RequestBody Map<String, String> request) {
         try {
             String email = request.get("email");
-            Optional<User> userOpt = userRepository.findByEmail(email);
+            Optional<User> userOpt = repositoryReadCoalescer.findUserByEmail(email, () -> userRepository.findByEmail(email));
             
             if (userOpt.isEmpty()) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -105,12 +160,17 @@ public class AuthController {
     }
     
     @PostMapping("/verify-security")
-    public ResponseEntity<?> verifySecurity(@RequestBody Map<String, String> request) {
+    public ResponseEntity<?> verifySecurity(@RequestBody Map<String, String> request, HttpServletRequest httpRequest) {
         try {
             String email = request.get("email");
             String securityAnswer = request.get("securityAnswer");
             
-            Optional<User> userOpt = userRepository.findByEmail(email);
+            long retryAfterMillis = loginThrottle.tryAcquire(email, clientIp(httpRequest));
+            if (retryAfterMillis > 0) {
+                return tooManyAttempts(retryAfterMillis);
+            }
+            
+            Optional<User> userOpt = repositoryReadCoalescer.findUserByEmail(email, () -> userRepository.findByEmail(email));
             if (userOpt.isEmpty()) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
                         .body(Map.of("error", "User not found"));
@@ -130,29 +190,73 @@ public class AuthController {
     }
     
     @PostMapping("/reset-password")
-    public ResponseEntity<?> resetPassword(@RequestBody Map<String, String> request) {
+    public CompletableFuture<ResponseEntity<?>> resetPassword(@RequestBody Map<String, String> request) {
         try {
             String email = request.get("email");
             String newPassword = request.get("newPassword");
             
             if (newPassword == null || newPassword.isEmpty()) {
-                return ResponseEntity.badRequest().body(Map.of("error", "Password cannot be empty"));
+                return CompletableFuture.completedFuture(
+                        ResponseEntity.badRequest().body(Map.of("error", "Password cannot be empty")));
             }
             
             Optional<User> userOpt = userRepository.findByEmail(email);
             if (userOpt.isEmpty()) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                        .body(Map.of("error", "User not found"));
+                return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Map.of("error", "User not found")));
             }
             
             User user = userOpt.get();
-            user.setPassword(passwordEncoder.encode(newPassword));
-            userRepository.save(user);
-            
-            return ResponseEntity.ok(Map.of("message", "Your password has been reset"));
+            return passwordHashingService.encode(newPassword).<ResponseEntity<?>>thenApplyAsync(hash -> {
+                user.setPassword(hash);
+                user.setTokenVersion(user.getTokenVersion() + 1);
+                userRepository.save(user);
+                
+                return ResponseEntity.ok(Map.of("message", "Your password has been reset"));
+            }, taskExecutor).exceptionally(error -> hashingFailed(error, "An error occurred"));
         } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Map.of("error", "An error occurred"));
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "An error occurred")));
+        }
+    }
+    
+    // best effort: a failed or skipped upgrade just leaves the old hash for the next login
+    private void upgradeHash(User user, String password) {
+        String oldHash = user.getPassword();
+        passwordHashingService.rehashIfNeeded(password, oldHash)
+                .thenAcceptAsync(newHash -> {
+                    if (newHash != null) {
+                        userRepository.updatePasswordIfUnchanged(user.getId(), oldHash, newHash);
+                    }
+                }, taskExecutor)
+                .exceptionally(error -> {
+                    System.err.println("⚠️ Could not upgrade password hash for " + user.getId() + ": " + error.getMessage());
+                    return null;
+                });
+    }
+    
+    // behind the load balancer the connection is the balancer's, so the client comes from X-Forwarded-For
+    private String clientIp(HttpServletRequest httpRequest) {
+        List<String> forwardedFor = Collections.list(httpRequest.getHeaders("X-Forwarded-For"));
+        return loginThrottle.clientIp(httpRequest.getRemoteAddr(),
+                forwardedFor.isEmpty() ? null : String.join(",", forwardedFor));
+    }
+    
+    // checked before the user lookup so throttled attempts cost neither Mongo nor BCrypt
+    private ResponseEntity<?> tooManyAttempts(long retryAfterMillis) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf((retryAfterMillis + 999) / 1000))
+                .body(Map.of("error", "Too many attempts, please try again later"));
+    }
+    
+    // a full hashing queue means "try again shortly", anything else is a real failure
+    private ResponseEntity<?> hashingFailed(Throwable error, String message) {
+        if (PasswordHashingService.isSaturated(error)) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(Map.of("error", "Server is busy, please try again"));
         }
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", message));
     }
 }
\ No newline at end of file
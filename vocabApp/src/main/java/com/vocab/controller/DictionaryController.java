@@ -2,38 +2,79 @@ package com.vocab.controller;
 
 import com.vocab.model.Dictionary;
 import com.vocab.repository.DictionaryRepository;
+import com.vocab.service.DictionaryImporter;
+import com.vocab.service.DictionaryIndexLoader;
+import com.vocab.service.DictionaryLookupCache;
+import com.vocab.service.DictionarySampler;
+import com.vocab.service.DictionarySearchIndex;
+import com.vocab.service.DictionarySnapshot;
+import com.vocab.service.DictionarySpellChecker;
+import com.vocab.service.DictionarySuggester;
+import com.vocab.service.RepositoryReadCoalescer;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/dictionary")
 @CrossOrigin(origins = "*")
 public class DictionaryController {
     
+    private static final int MAX_BATCH_LOOKUP = 500;
+    
     @Autowired
     private DictionaryRepository dictionaryRepository;
     
+    @Autowired
+    private DictionarySampler dictionarySampler;
+    
+    @Autowired
+    private DictionaryLookupCache dictionaryLookupCache;
+    
+    @Autowired
+    private DictionarySnapshot dictionarySnapshot;
+    
+    @Autowired
+    private DictionarySuggester dictionarySuggester;
+    
+    @Autowired
+    private DictionarySpellChecker dictionarySpellChecker;
+    
+    @Autowired
+    private DictionarySearchIndex dictionarySearchIndex;
+    
+    @Autowired
+    private DictionaryIndexLoader dictionaryIndexLoader;
+    
+    @Autowired
+    private DictionaryImporter dictionaryImporter;
+    
+    @Autowired
+    private RepositoryReadCoalescer repositoryReadCoalescer;
+    
     @GetMapping("/random")
     public ResponseEntity<?> getRandomWord() {
         try {
             System.out.println(" Fetching random word from dictionary");
             
-            List<Dictionary> allWords = dictionaryRepository.findAll();
-            if (allWords.isEmpty()) {
+            Dictionary randomWord = dictionarySampler.sample();
+            if (randomWord == null) {
                 System.out.println("⚠️ No words in dictionary");
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
                         .body(Map.of("error", "No words in dictionary"));
             }
             
-            Random random = new Random();
-            Dictionary randomWord = allWords.get(random.nextInt(allWords.size()));
-            
             System.out.println(" Random word: " + randomWord.getWord());
             
             return ResponseEntity.ok(randomWord);
@@ -50,14 +91,33 @@ public class DictionaryController {
         try {
             System.out.println(" Looking up word: " + word);
             
-            Dictionary result = dictionaryRepository.findByWord(word.toLowerCase());
+            String key = word.toLowerCase();
+            DictionaryLookupCache.Entry cached = dictionaryLookupCache.get(key);
+            Dictionary result;
+            if (cached != null) {
+                result = cached.getWord();
+            } else {
+                result = dictionarySnapshot.find(key);
+                if (result == null) {
+                    // words added since the snapshot was built are only in Mongo
+                    result = repositoryReadCoalescer.findWord(key, () -> dictionaryRepository.findByWord(key));
+                }
+                dictionaryLookupCache.put(key, result);
+            }
             if (result == null) {
                 System.out.println("⚠️ Word not found: " + word);
+                List<String> suggestions = new ArrayList<>();
+                for (DictionarySpellChecker.Suggestion suggestion : dictionarySpellChecker.lookup(key, 5)) {
+                    suggestions.add(suggestion.getWord());
+                }
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                        .body(Map.of("error", "Word not found"));
+                        .body(suggestions.isEmpty()
+                                ? Map.of("error", "Word not found")
+                                : Map.of("error", "Word not found", "suggestions", suggestions));
             }
             
             System.out.println(" Found definition for: " + word);
+            dictionarySuggester.recordLookup(key);
             return ResponseEntity.ok(result);
         } catch (Exception e) {
             System.err.println(" Error fetching word: " + e.getMessage());
@@ -67,17 +127,135 @@ public class DictionaryController {
         }
     }
     
+    // look up many words at once: cached words are answered locally, the rest in one $in query
+    @PostMapping("/words")
+    public ResponseEntity<?> getWordDefinitions(@RequestBody List<String> words) {
+        try {
+            if (words == null || words.isEmpty()) {
+                return ResponseEntity.badRequest().body(Map.of("error", "Please provide at least one word"));
+            }
+            Set<String> keys = new LinkedHashSet<>();
+            for (String word : words) {
+                if (word != null && !word.isBlank()) {
+                    keys.add(word.trim().toLowerCase());
+                }
+            }
+            if (keys.size() > MAX_BATCH_LOOKUP) {
+                return ResponseEntity.badRequest()
+                        .body(Map.of("error", "At most " + MAX_BATCH_LOOKUP + " words per request"));
+            }
+            
+            Map<String, Dictionary> resolved = new HashMap<>();
+            List<String> uncached = new ArrayList<>();
+            for (String key : keys) {
+                DictionaryLookupCache.Entry cached = dictionaryLookupCache.get(key);
+                Dictionary mapped = cached == null ? dictionarySnapshot.find(key) : null;
+                if (mapped != null) {
+                    resolved.put(key, mapped);
+                    dictionaryLookupCache.put(key, mapped);
+                } else if (cached == null) {
+                    uncached.add(key);
+                } else if (!cached.isMiss()) {
+                    resolved.put(key, cached.getWord());
+                }
+            }
+            if (!uncached.isEmpty()) {
+                for (Dictionary entry : dictionaryRepository.findByWordIn(uncached)) {
+                    resolved.put(entry.getWord(), entry);
+                }
+                for (String key : uncached) {
+                    dictionaryLookupCache.put(key, resolved.get(key));
+                }
+            }
+            
+            List<Dictionary> found = new ArrayList<>();
+            List<String> missing = new ArrayList<>();
+            for (String key : keys) {
+                Dictionary entry = resolved.get(key);
+                if (entry != null) {
+                    found.add(entry);
+                } else {
+                    missing.add(key);
+                }
+            }
+            return ResponseEntity.ok(Map.of("found", found, "missing", missing));
+        } catch (Exception e) {
+            System.err.println(" Error fetching words: " + e.getMessage());
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to fetch words", "details", String.valueOf(e.getMessage())));
+        }
+    }
+    
+    @GetMapping("/suggest")
+    public ResponseEntity<?> suggest(@RequestParam("prefix") String prefix,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        try {
+            if (prefix == null || prefix.isBlank()) {
+                return ResponseEntity.badRequest().body(Map.of("error", "Prefix is required"));
+            }
+            List<String> suggestions = dictionarySuggester.suggest(prefix.trim(), Math.min(Math.max(limit, 1), 50));
+            return ResponseEntity.ok(Map.of("prefix", prefix, "suggestions", suggestions));
+        } catch (Exception e) {
+            System.err.println(" Error fetching suggestions: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to fetch suggestions", "details", e.getMessage()));
+        }
+    }
+    
+    @GetMapping("/did-you-mean/{word}")
+    public ResponseEntity<?> didYouMean(@PathVariable("word") String word,
+            @RequestParam(value = "limit", defaultValue = "5") int limit) {
+        try {
+            List<DictionarySpellChecker.Suggestion> suggestions =
+                    dictionarySpellChecker.lookup(word, Math.min(Math.max(limit, 1), 20));
+            return ResponseEntity.ok(Map.of("word", word.toLowerCase(), "suggestions", suggestions));
+        } catch (Exception e) {
+            System.err.println(" Error fetching spelling suggestions: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to fetch suggestions", "details", e.getMessage()));
+        }
+    }
+    
+    // reverse dictionary: find words whose definition matches the query
+    @GetMapping("/search")
+    public ResponseEntity<?> search(@RequestParam("q") String query,
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "partOfSpeech", required = false) String partOfSpeech,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        try {
+            if (query == null || query.isBlank()) {
+                return ResponseEntity.badRequest().body(Map.of("error", "Search query is required"));
+            }
+            List<DictionarySearchIndex.Hit> results = dictionarySearchIndex.search(query, category, partOfSpeech,
+                    Math.min(Math.max(limit, 1), 50));
+            return ResponseEntity.ok(Map.of("query", query, "results", results));
+        } catch (Exception e) {
+            System.err.println(" Error searching dictionary: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to search dictionary", "details", e.getMessage()));
+        }
+    }
+    
     @PostMapping("/add")
     public ResponseEntity<?> addWord(@RequestBody Dictionary word) {
         try {
             System.out.println(" Adding word to dictionary: " + word.getWord());
             
             word.setWord(word.getWord().toLowerCase());
+            word.setUpdatedAt(LocalDateTime.now());
             Dictionary saved = dictionaryRepository.save(word);
+            dictionaryIndexLoader.add(saved);
+            dictionaryLookupCache.invalidate(saved.getWord());
+            dictionarySnapshot.invalidate(saved.getWord());
             
             System.out.println(" Word added with ID: " + saved.getId());
             
             return ResponseEntity.status(HttpStatus.CREATED).body(saved);
+        } catch (DuplicateKeyException e) {
+            // the unique word index; editing an entry means sending its id
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "This word is already in the dictionary"));
         } catch (Exception e) {
             System.err.println(" Error adding word: " + e.getMessage());
             e.printStackTrace();
@@ -85,4 +263,25 @@ public class DictionaryController {
                     .body(Map.of("error", "Failed to add word", "details", e.getMessage()));
         }
     }
+    
+    // bulk load: one JSON object per line (application/x-ndjson) or CSV with a header row (text/csv)
+    @PostMapping(value = "/import", consumes = { "application/x-ndjson", "text/csv" })
+    public ResponseEntity<?> importWords(HttpServletRequest request,
+            @RequestParam(value = "batchSize", required = false) Integer batchSize) {
+        try {
+            String contentType = request.getContentType();
+            String format = contentType != null && contentType.toLowerCase().startsWith("text/csv")
+                    ? DictionaryImporter.FORMAT_CSV
+                    : DictionaryImporter.FORMAT_NDJSON;
+            System.out.println(" Importing dictionary words (" + format + ")");
+            
+            DictionaryImporter.Summary summary = dictionaryImporter.importWords(request.getInputStream(), format, batchSize);
+            return ResponseEntity.ok(summary);
+        } catch (Exception e) {
+            System.err.println(" Error importing words: " + e.getMessage());
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to import words", "details", String.valueOf(e.getMessage())));
+        }
+    }
 }
\ No newline at end of file
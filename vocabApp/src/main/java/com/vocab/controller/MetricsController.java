@@ -0,0 +1,47 @@
+package com.vocab.controller;
+
+import com.vocab.service.DictionaryLookupCache;
+import com.vocab.service.LoginThrottle;
+import com.vocab.service.PasswordHashingService;
+import com.vocab.service.RepositoryReadCoalescer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/metrics")
+@CrossOrigin(origins = "*")
+public class MetricsController {
+
+    @Autowired
+    private DictionaryLookupCache dictionaryLookupCache;
+
+    @Autowired
+    private RepositoryReadCoalescer repositoryReadCoalescer;
+
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private LoginThrottle loginThrottle;
+
+    @GetMapping("/dictionary-cache")
+    public ResponseEntity<?> getDictionaryCacheStats() {
+        return ResponseEntity.ok(dictionaryLookupCache.stats());
+    }
+
+    @GetMapping("/read-coalescing")
+    public ResponseEntity<?> getReadCoalescingStats() {
+        return ResponseEntity.ok(repositoryReadCoalescer.stats());
+    }
+
+    @GetMapping("/password-hashing")
+    public ResponseEntity<?> getPasswordHashingStats() {
+        return ResponseEntity.ok(passwordHashingService.stats());
+    }
+
+    @GetMapping("/login-throttle")
+    public ResponseEntity<?> getLoginThrottleStats() {
+        return ResponseEntity.ok(loginThrottle.stats());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.vocab.controller;
+
+import com.vocab.model.VocabList;
+import com.vocab.model.WordInList;
+import com.vocab.repository.VocabListRepository;
+import com.vocab.repository.WordInListRepository;
+import com.vocab.service.QuizGenerator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/vocab/quiz")
+@CrossOrigin(origins = "*")
+public class QuizController {
+    private static final int DEFAULT_QUESTIONS = 20;
+    private static final int MAX_QUESTIONS = 100;
+    private static final int DEFAULT_CHOICES = 4;
+
+    @Autowired
+    private WordInListRepository wordInListRepository;
+    @Autowired
+    private VocabListRepository vocabListRepository;
+    @Autowired
+    private QuizGenerator quizGenerator;
+
+    // a multiple-choice quiz over random words from a list; distractors come from memory, not Mongo
+    @GetMapping("/{userId}/{listId}")
+    public ResponseEntity<?> getQuiz(@PathVariable("userId") String userId,
+            @PathVariable("listId") String listId,
+            @RequestParam(value = "questions", defaultValue = "" + DEFAULT_QUESTIONS) int questions,
+            @RequestParam(value = "choices", defaultValue = "" + DEFAULT_CHOICES) int choices) {
+        try {
+            if (!RequestUser.mayAccess(userId)) {
+                return RequestUser.forbidden();
+            }
+            if (questions < 1 || questions > MAX_QUESTIONS) {
+                return ResponseEntity.badRequest()
+                        .body(Map.of("error", "Questions must be between 1 and " + MAX_QUESTIONS));
+            }
+            if (choices < QuizGenerator.MIN_CHOICES || choices > QuizGenerator.MAX_CHOICES) {
+                return ResponseEntity.badRequest().body(Map.of("error", "Choices must be between "
+                        + QuizGenerator.MIN_CHOICES + " and " + QuizGenerator.MAX_CHOICES));
+            }
+            // a deleted list's words linger until they are purged; it is gone as far as the user is concerned
+            Optional<VocabList> list = vocabListRepository.findById(listId);
+            if (list.isPresent() && list.get().getDeletedAt() != null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", "List not found"));
+            }
+            List<WordInList> words = wordInListRepository.sampleByUserIdAndListId(userId, listId, questions);
+            Map<String, Object> response = new HashMap<>();
+            response.put("questions", quizGenerator.generate(words, choices));
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to build quiz"));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.vocab.controller;
+
+import com.vocab.config.TokenAuthenticationFilter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+
+/**
+ * The user an access token authenticated the current request as, for checking the
+ * userId a client puts in a path or body against it.
+ *
+ * Requests without a token, which SecurityConfig only lets through while
+ * vocab.auth.token.required is off, have no user and are not checked.
+ */
+final class RequestUser {
+
+    private RequestUser() {
+    }
+
+    /** The token's user id, or null for a request without a token. */
+    static String id() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            Object userId = attributes.getAttribute(TokenAuthenticationFilter.USER_ID_ATTRIBUTE,
+                    RequestAttributes.SCOPE_REQUEST);
+            if (userId instanceof String id) {
+                return id;
+            }
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof UsernamePasswordAuthenticationToken token
+                && token.getPrincipal() instanceof String id) {
+            return id;
+        }
+        return null;
+    }
+
+    /** False if the request carries a token for a different user than userId. */
+    static boolean mayAccess(String userId) {
+        String current = id();
+        return current == null || current.equals(userId);
+    }
+
+    static ResponseEntity<?> forbidden() {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("error", "Not authorized for this user"));
+    }
+}
@@ -0,0 +1,151 @@
+package com.vocab.controller;
+
+import com.vocab.model.VocabList;
+import com.vocab.model.WordInList;
+import com.vocab.repository.VocabListRepository;
+import com.vocab.repository.WordInListRepository;
+import com.vocab.service.ReviewScheduler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/vocab/review")
+@CrossOrigin(origins = "*")
+public class ReviewController {
+    private static final int DEFAULT_BATCH_SIZE = 20;
+    private static final int MAX_BATCH_SIZE = 200;
+
+    @Autowired
+    private WordInListRepository wordInListRepository;
+    @Autowired
+    private VocabListRepository vocabListRepository;
+    @Autowired
+    private ReviewScheduler reviewScheduler;
+
+    // next words due for review, oldest due first; a range scan on the userId_dueAt index
+    @GetMapping("/{userId}")
+    public ResponseEntity<?> getDueWords(@PathVariable("userId") String userId,
+            @RequestParam(value = "limit", defaultValue = "" + DEFAULT_BATCH_SIZE) int limit) {
+        try {
+            if (!RequestUser.mayAccess(userId)) {
+                return RequestUser.forbidden();
+            }
+            if (limit < 1 || limit > MAX_BATCH_SIZE) {
+                return ResponseEntity.badRequest()
+                        .body(Map.of("error", "Limit must be between 1 and " + MAX_BATCH_SIZE));
+            }
+            List<WordInList> due = wordInListRepository.findByUserIdAndDueAtLessThanEqualAndListIdNotInOrderByDueAtAsc(
+                    userId, LocalDateTime.now(), deletedListIds(userId), PageRequest.of(0, limit));
+            return ResponseEntity.ok(Map.of("words", due));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to fetch review words"));
+        }
+    }
+
+    // record a session's grades: one read of the graded words, one bulk write of their new schedules
+    @PostMapping("/{userId}")
+    public ResponseEntity<?> recordGrades(@PathVariable("userId") String userId,
+            @RequestBody List<Grade> grades) {
+        try {
+            if (!RequestUser.mayAccess(userId)) {
+                return RequestUser.forbidden();
+            }
+            if (grades == null || grades.isEmpty()) {
+                return ResponseEntity.badRequest().body(Map.of("error", "Please provide at least one grade"));
+            }
+            if (grades.size() > MAX_BATCH_SIZE) {
+                return ResponseEntity.badRequest()
+                        .body(Map.of("error", "At most " + MAX_BATCH_SIZE + " grades per request"));
+            }
+            for (Grade grade : grades) {
+                if (grade == null || grade.getWordId() == null
+                        || grade.getGrade() < ReviewScheduler.MIN_GRADE || grade.getGrade() > ReviewScheduler.MAX_GRADE) {
+                    return ResponseEntity.badRequest().body(Map.of("error",
+                            "Each grade needs a wordId and a grade between " + ReviewScheduler.MIN_GRADE
+                                    + " and " + ReviewScheduler.MAX_GRADE));
+                }
+            }
+
+            Set<String> ids = new LinkedHashSet<>();
+            for (Grade grade : grades) {
+                ids.add(grade.getWordId());
+            }
+            Set<String> deletedListIds = deletedListIds(userId);
+            Map<String, WordInList> words = new HashMap<>();
+            for (WordInList word : wordInListRepository.findAllById(ids)) {
+                if (userId.equals(word.getUserId()) && !deletedListIds.contains(word.getListId())) {
+                    words.put(word.getId(), word);
+                }
+            }
+
+            // grades for the same word are applied in order, so the last one decides its schedule
+            LocalDateTime now = LocalDateTime.now();
+            List<Map<String, Object>> results = new ArrayList<>(grades.size());
+            for (Grade grade : grades) {
+                WordInList word = words.get(grade.getWordId());
+                Map<String, Object> result = new HashMap<>();
+                result.put("wordId", grade.getWordId());
+                if (word == null) {
+                    result.put("status", "not_found");
+                } else {
+                    reviewScheduler.review(word, grade.getGrade(), now);
+                    result.put("status", "recorded");
+                    result.put("intervalDays", word.getIntervalDays());
+                    result.put("dueAt", word.getDueAt());
+                }
+                results.add(result);
+            }
+            wordInListRepository.applyReviews(new ArrayList<>(words.values()));
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "Grades recorded");
+            response.put("results", results);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to record grades"));
+        }
+    }
+
+    // a deleted list's words stay in Mongo until ListPurgeWorker gets to them, but are no longer the user's
+    private Set<String> deletedListIds(String userId) {
+        Set<String> ids = new HashSet<>();
+        for (VocabList list : vocabListRepository.findDeletedByUserId(userId)) {
+            ids.add(list.getId());
+        }
+        return ids;
+    }
+
+    public static class Grade {
+        private String wordId;
+        private int grade;
+
+        public String getWordId() {
+            return wordId;
+        }
+
+        public void setWordId(String wordId) {
+            this.wordId = wordId;
+        }
+
+        public int getGrade() {
+            return grade;
+        }
+
+        public void setGrade(int grade) {
+            this.grade = grade;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.vocab.controller;
+
+import com.vocab.model.Tombstone;
+import com.vocab.model.VocabList;
+import com.vocab.model.WordInList;
+import com.vocab.repository.TombstoneRepository;
+import com.vocab.repository.VocabListRepository;
+import com.vocab.repository.WordInListRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/vocab/sync")
+@CrossOrigin(origins = "*")
+public class SyncController {
+    // the next token starts a little before now, so a write still in flight during this sync is picked up next time
+    private static final long OVERLAP_SECONDS = 5;
+
+    @Autowired
+    private VocabListRepository vocabListRepository;
+    @Autowired
+    private WordInListRepository wordInListRepository;
+    @Autowired
+    private TombstoneRepository tombstoneRepository;
+
+    // lists, words and deletions changed since the token from the last sync; no token means everything
+    @GetMapping("/{userId}")
+    public ResponseEntity<?> sync(@PathVariable("userId") String userId,
+            @RequestParam(value = "since", required = false) String since) {
+        try {
+            if (!RequestUser.mayAccess(userId)) {
+                return RequestUser.forbidden();
+            }
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime sinceTime = null;
+            if (since != null && !since.isEmpty()) {
+                try {
+                    sinceTime = LocalDateTime.parse(since);
+                } catch (DateTimeParseException e) {
+                    return ResponseEntity.badRequest().body(Map.of("error", "Invalid sync token"));
+                }
+            }
+            // tombstones expire, so a token older than they are kept can't be answered as a delta
+            boolean fullSync = sinceTime == null || sinceTime.isBefore(now.minusDays(Tombstone.RETENTION_DAYS));
+
+            List<VocabList> lists = new ArrayList<>();
+            List<WordInList> words = new ArrayList<>();
+            List<Tombstone> deleted = new ArrayList<>();
+            if (fullSync) {
+                Set<String> listIds = new HashSet<>();
+                for (VocabList list : vocabListRepository.findByUserId(userId)) {
+                    lists.add(list);
+                    listIds.add(list.getId());
+                }
+                for (WordInList word : wordInListRepository.findByUserId(userId)) {
+                    if (listIds.contains(word.getListId())) {
+                        words.add(word);
+                    }
+                }
+            } else {
+                for (VocabList list : vocabListRepository.findByUserIdAndUpdatedAtGreaterThan(userId, sinceTime)) {
+                    if (list.getDeletedAt() == null) {
+                        lists.add(list);
+                    }
+                }
+                words.addAll(wordInListRepository.findByUserIdAndUpdatedAtGreaterThan(userId, sinceTime));
+                deleted.addAll(tombstoneRepository.findByUserIdAndDeletedAtGreaterThan(userId, sinceTime));
+            }
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("fullSync", fullSync);
+            response.put("lists", lists);
+            response.put("words", words);
+            response.put("deleted", deleted);
+            response.put("nextSince", now.minusSeconds(OVERLAP_SECONDS).toString());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to sync"));
+        }
+    }
+}
\ No newline at end of file
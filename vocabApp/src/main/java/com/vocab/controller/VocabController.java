@@ -1,31 +1,68 @@
 package com.vocab.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.vocab.model.LibraryList;
+import com.vocab.model.Tombstone;
 import com.vocab.model.VocabList;
 import com.vocab.model.WordInList;
+import com.vocab.repository.BulkInsertResult;
+import com.vocab.repository.TombstoneRepository;
 import com.vocab.repository.VocabListRepository;
 import com.vocab.repository.WordInListRepository;
+import com.vocab.service.RepositoryReadCoalescer;
+import com.vocab.service.ReviewScheduler;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/api/vocab")
 @CrossOrigin(origins = "*")
 public class VocabController {
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_BULK_WORDS = 500;
+    private static final int DEFAULT_LIBRARY_WORDS = 20;
+
     @Autowired
     private VocabListRepository vocabListRepository;
     @Autowired
     private WordInListRepository wordInListRepository;
+    @Autowired
+    private TombstoneRepository tombstoneRepository;
+    @Autowired
+    private RepositoryReadCoalescer repositoryReadCoalescer;
+    @Autowired
+    private ObjectMapper objectMapper;
 
     @GetMapping("/lists/{userId}")
     public ResponseEntity<?> getAllLists(@PathVariable("userId") String userId) {
         try {
-            List<VocabList> lists = vocabListRepository.findByUserId(userId);
+            if (!RequestUser.mayAccess(userId)) {
+                return RequestUser.forbidden();
+            }
+            List<VocabList> lists = repositoryReadCoalescer.findListsByUser(userId,
+                    () -> vocabListRepository.findByUserId(userId));
             return ResponseEntity.ok(lists);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -36,14 +73,31 @@ public class VocabController {
     @GetMapping("/lists/{userId}/exclude-history")
     public ResponseEntity<?> getListsExcludingHistory(@PathVariable("userId") String userId) {
         try {
-            Optional<VocabList> historyList = vocabListRepository.findFirstByUserIdOrderByCreatedAtAsc(userId);
-            List<VocabList> allLists = vocabListRepository.findByUserId(userId);
-            if (historyList.isPresent()) {
-                allLists.removeIf(list -> list.getId().equals(historyList.get().getId()));
+            if (!RequestUser.mayAccess(userId)) {
+                return RequestUser.forbidden();
+            }
+            // one indexed read; the history list is picked out of the same result
+            List<VocabList> allLists = repositoryReadCoalescer.findListsByUser(userId,
+                    () -> vocabListRepository.findByUserId(userId));
+            VocabList historyList = null;
+            for (VocabList list : allLists) {
+                if (list.isHistory()) {
+                    historyList = list;
+                    break;
+                }
+            }
+            if (historyList == null) {
+                historyList = legacyHistoryList(allLists);
+            }
+            if (historyList == null) {
+                // registration no longer writes it, so it is created the first time it is asked for
+                historyList = vocabListRepository.ensureHistoryList(userId);
+            } else {
+                allLists.remove(historyList);
             }
             Map<String, Object> response = new HashMap<>();
             response.put("lists", allLists);
-            response.put("vocabHistoryId", historyList.map(VocabList::getId).orElse(null));
+            response.put("vocabHistoryId", historyList == null ? null : historyList.getId());
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -51,12 +105,74 @@ public class VocabController {
         }
     }
 
+    // a user the history migration hasn't reached yet: their oldest list is the history list
+    // if it still has the name, so flag that one instead of creating an empty second one
+    private VocabList legacyHistoryList(List<VocabList> lists) {
+        VocabList oldest = lists.stream()
+                .min(Comparator.comparing(VocabList::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder())))
+                .orElse(null);
+        if (oldest == null || !VocabList.HISTORY_LIST_NAME.equals(oldest.getListName())) {
+            return null;
+        }
+        try {
+            vocabListRepository.markHistory(List.of(oldest.getId()));
+        } catch (DuplicateKeyException e) {
+            // a concurrent first use already created one; ensureHistoryList will return it
+            return null;
+        }
+        oldest.setHistory(true);
+        return oldest;
+    }
+
+    // every list with its first words in one aggregation, for the app's launch screen
+    @GetMapping("/library/{userId}")
+    public ResponseEntity<?> getLibrary(@PathVariable("userId") String userId,
+            @RequestParam(value = "words", defaultValue = "" + DEFAULT_LIBRARY_WORDS) int wordsPerList,
+            @RequestParam(value = "stream", defaultValue = "false") boolean stream) {
+        try {
+            if (!RequestUser.mayAccess(userId)) {
+                return RequestUser.forbidden();
+            }
+            if (wordsPerList < 1 || wordsPerList > MAX_PAGE_SIZE) {
+                return ResponseEntity.badRequest()
+                        .body(Map.of("error", "Words per list must be between 1 and " + MAX_PAGE_SIZE));
+            }
+            if (!stream) {
+                return ResponseEntity.ok(Map.of("lists", vocabListRepository.findLibrary(userId, wordsPerList)));
+            }
+            ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            StreamingResponseBody body = out -> {
+                try (Stream<LibraryList> lists = vocabListRepository.streamLibrary(userId, wordsPerList);
+                     JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+                    json.writeStartObject();
+                    json.writeArrayFieldStart("lists");
+                    Iterator<LibraryList> iterator = lists.iterator();
+                    while (iterator.hasNext()) {
+                        writer.writeValue(json, iterator.next());
+                    }
+                    json.writeEndArray();
+                    json.writeEndObject();
+                }
+            };
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to fetch library"));
+        }
+    }
+
     @PostMapping("/lists")
     public ResponseEntity<?> createList(@RequestBody VocabList vocabList) {
         try {
             if (vocabList.getListName() == null || vocabList.getListName().isEmpty()) {
                 return ResponseEntity.badRequest().body(Map.of("error", "Please enter a list name"));
             }
+            if (!RequestUser.mayAccess(vocabList.getUserId())) {
+                return RequestUser.forbidden();
+            }
+            vocabList.setWordCount(0);
+            vocabList.setLastAddedAt(null);
+            vocabList.setHistory(false);
             VocabList savedList = vocabListRepository.save(vocabList);
             Map<String, Object> response = new HashMap<>();
             response.put("message", "List created successfully");
@@ -73,7 +189,13 @@ public class VocabController {
     public ResponseEntity<?> getWordsInList(@PathVariable("userId") String userId,
             @PathVariable("listId") String listId) {
         try {
+            if (!RequestUser.mayAccess(userId)) {
+                return RequestUser.forbidden();
+            }
             Optional<VocabList> list = vocabListRepository.findById(listId);
+            if (isDeleted(list)) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", "List not found"));
+            }
             List<WordInList> words = wordInListRepository.findByUserIdAndListId(userId, listId);
             Map<String, Object> response = new HashMap<>();
             response.put("listName", list.map(VocabList::getListName).orElse(null));
@@ -85,31 +207,233 @@ public class VocabController {
         }
     }
 
+    // one page of a list in (addedAt, _id) order; pass nextCursor back to get the following page
+    @GetMapping("/words/{userId}/{listId}/page")
+    public ResponseEntity<?> getWordsPage(@PathVariable("userId") String userId,
+            @PathVariable("listId") String listId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+        try {
+            if (!RequestUser.mayAccess(userId)) {
+                return RequestUser.forbidden();
+            }
+            if (limit < 1 || limit > MAX_PAGE_SIZE) {
+                return ResponseEntity.badRequest()
+                        .body(Map.of("error", "Limit must be between 1 and " + MAX_PAGE_SIZE));
+            }
+            WordCursor after = null;
+            if (cursor != null && !cursor.isEmpty()) {
+                after = WordCursor.decode(cursor);
+                if (after == null) {
+                    return ResponseEntity.badRequest().body(Map.of("error", "Invalid cursor"));
+                }
+            }
+            Optional<VocabList> list = vocabListRepository.findById(listId);
+            if (isDeleted(list)) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", "List not found"));
+            }
+            // one extra row tells us whether another page exists without a count query
+            List<WordInList> words = wordInListRepository.findPageAfter(userId, listId,
+                    after == null ? null : after.addedAt, after == null ? null : after.id, limit + 1);
+            String nextCursor = null;
+            if (words.size() > limit) {
+                words = words.subList(0, limit);
+                WordInList last = words.get(limit - 1);
+                nextCursor = WordCursor.encode(last.getAddedAt(), last.getId());
+            }
+            Map<String, Object> response = new HashMap<>();
+            if (after == null) {
+                response.put("listName", list.map(VocabList::getListName).orElse(null));
+            }
+            response.put("words", words);
+            response.put("nextCursor", nextCursor);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to fetch words"));
+        }
+    }
+
+    // the whole list written straight from a Mongo cursor, so memory use doesn't grow with the list
+    @GetMapping("/words/{userId}/{listId}/stream")
+    public ResponseEntity<?> streamWordsInList(@PathVariable("userId") String userId,
+            @PathVariable("listId") String listId) {
+        try {
+            if (!RequestUser.mayAccess(userId)) {
+                return RequestUser.forbidden();
+            }
+            Optional<VocabList> list = vocabListRepository.findById(listId);
+            if (isDeleted(list)) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", "List not found"));
+            }
+            String listName = list.map(VocabList::getListName).orElse(null);
+            // flushing per word would turn every row into its own socket write
+            ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            StreamingResponseBody body = out -> {
+                try (Stream<WordInList> words = wordInListRepository
+                        .streamByUserIdAndListIdOrderByAddedAtAscIdAsc(userId, listId);
+                     JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+                    json.writeStartObject();
+                    json.writeStringField("listName", listName);
+                    json.writeArrayFieldStart("words");
+                    Iterator<WordInList> iterator = words.iterator();
+                    while (iterator.hasNext()) {
+                        writer.writeValue(json, iterator.next());
+                    }
+                    json.writeEndArray();
+                    json.writeEndObject();
+                }
+            };
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to fetch words"));
+        }
+    }
+
     // this is to add a word to a specific list
     @PostMapping("/words")
     public ResponseEntity<?> addWord(@RequestBody WordInList word) {
         try {
-            Optional<WordInList> existingWord = wordInListRepository
-                    .findByUserIdAndListIdAndWord(word.getUserId(), word.getListId(), word.getWord());
-            if (existingWord.isPresent()) {
-                return ResponseEntity.badRequest()
-                        .body(Map.of("error", "This word already exists in this list"));
+            if (!RequestUser.mayAccess(word.getUserId())) {
+                return RequestUser.forbidden();
             }
-            WordInList savedWord = wordInListRepository.save(word);
+            if (!acceptsWords(word.getListId(), word.getUserId())) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", "List not found"));
+            }
+            // the unique (userId, listId, word) index rejects duplicates, so one insert both checks and writes
+            word.setId(null);
+            // timestamps come from the server clock; sync and paging order by them
+            LocalDateTime now = LocalDateTime.now();
+            word.setAddedAt(now);
+            word.setUpdatedAt(now);
+            ReviewScheduler.start(word, now);
+            WordInList savedWord = wordInListRepository.insert(word);
+            recordWordsAdded(savedWord.getListId(), 1, savedWord.getAddedAt());
             Map<String, Object> response = new HashMap<>();
             response.put("message", "Word saved successfully");
             response.put("word", savedWord);
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (DuplicateKeyException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "This word already exists in this list"));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", "Failed to save word"));
         }
     }
 
+    // add many words to one list: one $in query finds existing words, one unordered bulk write inserts the rest
+    @PostMapping("/words/bulk")
+    public ResponseEntity<?> addWords(@RequestBody List<WordInList> words) {
+        try {
+            if (words == null || words.isEmpty()) {
+                return ResponseEntity.badRequest().body(Map.of("error", "Please provide at least one word"));
+            }
+            if (words.size() > MAX_BULK_WORDS) {
+                return ResponseEntity.badRequest()
+                        .body(Map.of("error", "At most " + MAX_BULK_WORDS + " words per request"));
+            }
+            String userId = words.get(0).getUserId();
+            String listId = words.get(0).getListId();
+            if (userId == null || listId == null) {
+                return ResponseEntity.badRequest().body(Map.of("error", "Words must include a userId and listId"));
+            }
+            if (!RequestUser.mayAccess(userId)) {
+                return RequestUser.forbidden();
+            }
+            if (!acceptsWords(listId, userId)) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", "List not found"));
+            }
+
+            String[] outcomes = new String[words.size()];
+            Map<String, Integer> pending = new LinkedHashMap<>();
+            for (int i = 0; i < words.size(); i++) {
+                WordInList word = words.get(i);
+                if (word == null || word.getWord() == null || word.getWord().isBlank()
+                        || !userId.equals(word.getUserId()) || !listId.equals(word.getListId())) {
+                    outcomes[i] = "invalid";
+                } else if (pending.putIfAbsent(word.getWord(), i) != null) {
+                    outcomes[i] = "duplicate";
+                }
+            }
+            if (!pending.isEmpty()) {
+                for (WordInList existing : wordInListRepository.findByUserIdAndListIdAndWordIn(userId, listId,
+                        pending.keySet())) {
+                    Integer index = pending.remove(existing.getWord());
+                    if (index != null) {
+                        outcomes[index] = "duplicate";
+                    }
+                }
+            }
+
+            // ids are assigned up front so each added word can be reported back with its id
+            List<WordInList> toInsert = new ArrayList<>(pending.size());
+            List<Integer> positions = new ArrayList<>(pending.size());
+            LocalDateTime now = LocalDateTime.now();
+            for (Integer index : pending.values()) {
+                WordInList word = words.get(index);
+                word.setId(new ObjectId().toHexString());
+                word.setAddedAt(now);
+                word.setUpdatedAt(now);
+                ReviewScheduler.start(word, now);
+                toInsert.add(word);
+                positions.add(index);
+            }
+            if (!toInsert.isEmpty()) {
+                BulkInsertResult inserted = wordInListRepository.insertUnordered(toInsert);
+                for (int i = 0; i < positions.size(); i++) {
+                    // a duplicate here means a concurrent request added the same word first
+                    outcomes[positions.get(i)] = inserted.isDuplicate(i) ? "duplicate" : "added";
+                }
+            }
+
+            List<Map<String, Object>> results = new ArrayList<>(words.size());
+            int added = 0;
+            LocalDateTime lastAddedAt = null;
+            for (int i = 0; i < words.size(); i++) {
+                Map<String, Object> result = new HashMap<>();
+                WordInList word = words.get(i);
+                result.put("word", word == null ? null : word.getWord());
+                result.put("status", outcomes[i]);
+                if ("added".equals(outcomes[i])) {
+                    result.put("id", word.getId());
+                    added++;
+                    if (word.getAddedAt() != null && (lastAddedAt == null || word.getAddedAt().isAfter(lastAddedAt))) {
+                        lastAddedAt = word.getAddedAt();
+                    }
+                }
+                results.add(result);
+            }
+            if (added > 0) {
+                recordWordsAdded(listId, added, lastAddedAt);
+            }
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", added + " of " + words.size() + " words saved");
+            response.put("results", results);
+            return ResponseEntity.status(added > 0 ? HttpStatus.CREATED : HttpStatus.OK).body(response);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to save words"));
+        }
+    }
+
     @DeleteMapping("/words/{wordId}")
     public ResponseEntity<?> deleteWord(@PathVariable("wordId") String wordId) {
         try {
-            wordInListRepository.deleteById(wordId);
+            // findAndRemove hands back the list id, so the list's counter can follow without another read
+            WordInList removed = wordInListRepository.removeById(wordId, RequestUser.id());
+            if (removed != null) {
+                try {
+                    tombstoneRepository.save(new Tombstone(removed.getUserId(), Tombstone.TYPE_WORD,
+                            removed.getId(), removed.getListId()));
+                    if (removed.getListId() != null) {
+                        vocabListRepository.recordWordRemoved(removed.getListId());
+                    }
+                } catch (Exception e) {
+                    System.err.println("⚠️ Could not record deletion of word " + wordId + ": " + e.getMessage());
+                }
+            }
             return ResponseEntity.ok(Map.of("message", "Word deleted successfully"));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -121,14 +445,12 @@ public class VocabController {
     @PutMapping("/words/{wordId}")
     public ResponseEntity<?> updateWord(@PathVariable("wordId") String wordId, @RequestBody WordInList updatedWord) {
         try {
-            Optional<WordInList> wordOpt = wordInListRepository.findById(wordId);
-            if (wordOpt.isEmpty()) {
+            // only the text is taken from the body; the review schedule stays as the reviews left it
+            WordInList word = wordInListRepository.updateText(wordId, RequestUser.id(), updatedWord.getWord(),
+                    updatedWord.getDefinition());
+            if (word == null) {
                 return ResponseEntity.notFound().build();
             }
-            WordInList word = wordOpt.get();
-            word.setWord(updatedWord.getWord());
-            word.setDefinition(updatedWord.getDefinition());
-            wordInListRepository.save(word);
             return ResponseEntity.ok(Map.of("message", "Word updated successfully", "word", word));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -136,16 +458,15 @@ public class VocabController {
         }
     }
 
-    // delete a vocab list and all words in it
+    // delete a vocab list and all words in it: the list is hidden now, ListPurgeWorker removes the words
     @DeleteMapping("/lists/{userId}/{listId}")
     public ResponseEntity<?> deleteList(@PathVariable("userId") String userId, @PathVariable("listId") String listId) {
         try {
-            // remove all words in the list in one repository operation
-            wordInListRepository.deleteByListId(listId);
-
-            // delete the list itself
+            if (!RequestUser.mayAccess(userId)) {
+                return RequestUser.forbidden();
+            }
             Optional<VocabList> listOpt = vocabListRepository.findById(listId);
-            if (listOpt.isEmpty()) {
+            if (listOpt.isEmpty() || isDeleted(listOpt)) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", "List not found"));
             }
 
@@ -154,11 +475,99 @@ public class VocabController {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("error", "Not authorized to delete this list"));
             }
 
-            vocabListRepository.deleteById(listId);
-            return ResponseEntity.ok(Map.of("message", "List and its words deleted successfully"));
+            if (!vocabListRepository.markDeleted(listId)) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", "List not found"));
+            }
+            // syncing clients drop the list and its words from this tombstone alone
+            tombstoneRepository.save(new Tombstone(userId, Tombstone.TYPE_LIST, listId, listId));
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(Map.of("message", "List deleted, its words are being removed", "listId", listId));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", "Failed to delete list"));
         }
     }
+
+    // progress of a list deletion started by deleteList
+    @GetMapping("/lists/{userId}/{listId}/deletion")
+    public ResponseEntity<?> getListDeletionStatus(@PathVariable("userId") String userId,
+            @PathVariable("listId") String listId) {
+        try {
+            if (!RequestUser.mayAccess(userId)) {
+                return RequestUser.forbidden();
+            }
+            Optional<VocabList> listOpt = vocabListRepository.findById(listId);
+            if (listOpt.isEmpty()) {
+                return ResponseEntity.ok(Map.of("status", "deleted", "wordsRemaining", 0));
+            }
+            VocabList list = listOpt.get();
+            if (!list.getUserId().equals(userId)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("error", "Not authorized to view this list"));
+            }
+            if (list.getDeletedAt() == null) {
+                return ResponseEntity.ok(Map.of("status", "active"));
+            }
+            return ResponseEntity.ok(Map.of("status", "deleting",
+                    "deletedAt", list.getDeletedAt(),
+                    "wordsRemaining", wordInListRepository.countByListId(listId)));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to fetch deletion status"));
+        }
+    }
+
+    private static boolean isDeleted(Optional<VocabList> list) {
+        return list.isPresent() && list.get().getDeletedAt() != null;
+    }
+
+    // a word saved into a tombstoned list would outlive the purge, so only live lists take new words,
+    // and only from the list's owner
+    private boolean acceptsWords(String listId, String userId) {
+        if (listId == null) {
+            return false;
+        }
+        Optional<VocabList> list = vocabListRepository.findById(listId);
+        return list.isPresent() && !isDeleted(list) && list.get().getUserId() != null
+                && list.get().getUserId().equals(userId);
+    }
+
+    // the word is already saved at this point; a failed counter update is left for VocabListCountReconciler
+    private void recordWordsAdded(String listId, int count, LocalDateTime lastAddedAt) {
+        try {
+            vocabListRepository.recordWordsAdded(listId, count, lastAddedAt);
+        } catch (Exception e) {
+            System.err.println("⚠️ Could not update word count for list " + listId + ": " + e.getMessage());
+        }
+    }
+
+    // opaque page token: base64url of "addedAt|id"; an empty addedAt stands for a word saved without one
+    static final class WordCursor {
+        private final LocalDateTime addedAt;
+        private final String id;
+
+        private WordCursor(LocalDateTime addedAt, String id) {
+            this.addedAt = addedAt;
+            this.id = id;
+        }
+
+        static String encode(LocalDateTime addedAt, String id) {
+            String raw = (addedAt == null ? "" : addedAt.toString()) + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        // null if the token wasn't produced by encode
+        static WordCursor decode(String token) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+                int separator = raw.indexOf('|');
+                if (separator < 0 || separator == raw.length() - 1) {
+                    return null;
+                }
+                LocalDateTime addedAt = separator == 0 ? null : LocalDateTime.parse(raw.substring(0, separator));
+                return new WordCursor(addedAt, raw.substring(separator + 1));
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -1,17 +1,24 @@
 package com.vocab.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
+import java.time.LocalDateTime;
 
 @Document(collection = "dictionary")
 public class Dictionary {
     
     @Id
     private String id;
+    @Indexed(unique = true)
     private String word;
     private String shortdef;
     private String category;
     private String partOfSpeech;
+    @Indexed
+    @JsonIgnore
+    private LocalDateTime updatedAt; //set on every write, part of the snapshot version stamp
     
     public Dictionary() {}
     
@@ -55,4 +62,12 @@ public class Dictionary {
     public void setPartOfSpeech(String partOfSpeech) {
         this.partOfSpeech = partOfSpeech;
     }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
 }
\ No newline at end of file
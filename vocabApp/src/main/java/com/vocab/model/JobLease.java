@@ -0,0 +1,39 @@
+package com.vocab.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import java.time.LocalDateTime;
+
+// a time-limited claim on a background job, so only one instance runs it at a time
+@Document(collection = "jobleases")
+public class JobLease {
+    
+    @Id
+    private String id; //the job's name
+    private String owner;
+    private LocalDateTime expiresAt;
+    
+    public String getId() {
+        return id;
+    }
+    
+    public void setId(String id) {
+        this.id = id;
+    }
+    
+    public String getOwner() {
+        return owner;
+    }
+    
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+    
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+    
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
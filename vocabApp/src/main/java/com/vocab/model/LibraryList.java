@@ -0,0 +1,75 @@
+package com.vocab.model;
+
+import org.springframework.data.annotation.Id;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// a vocab list together with its first words, as returned by the library aggregation
+public class LibraryList {
+    
+    @Id
+    private String id;
+    private String listName;
+    private LocalDateTime createdAt;
+    private long wordCount;
+    private LocalDateTime lastAddedAt;
+    private boolean history;
+    private List<LibraryWord> words = new ArrayList<>();
+    
+    public String getId() {
+        return id;
+    }
+    
+    public void setId(String id) {
+        this.id = id;
+    }
+    
+    public String getListName() {
+        return listName;
+    }
+    
+    public void setListName(String listName) {
+        this.listName = listName;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public long getWordCount() {
+        return wordCount;
+    }
+    
+    public void setWordCount(long wordCount) {
+        this.wordCount = wordCount;
+    }
+    
+    public LocalDateTime getLastAddedAt() {
+        return lastAddedAt;
+    }
+    
+    public void setLastAddedAt(LocalDateTime lastAddedAt) {
+        this.lastAddedAt = lastAddedAt;
+    }
+    
+    public boolean isHistory() {
+        return history;
+    }
+    
+    public void setHistory(boolean history) {
+        this.history = history;
+    }
+    
+    public List<LibraryWord> getWords() {
+        return words;
+    }
+    
+    public void setWords(List<LibraryWord> words) {
+        this.words = words;
+    }
+}
@@ -0,0 +1,56 @@
+package com.vocab.model;
+
+import org.springframework.data.annotation.Id;
+import java.time.LocalDateTime;
+
+// a word as the library aggregation projects it: only the fields it selects, no WordInList defaults;
+// serialized under WordInList's property names so clients can share one word model
+public class LibraryWord {
+    
+    @Id
+    private String id;
+    private String word;
+    private String definition;
+    private String category;
+    private LocalDateTime addedAt;
+    
+    public String getId() {
+        return id;
+    }
+    
+    public void setId(String id) {
+        this.id = id;
+    }
+    
+    public String getWord() {
+        return word;
+    }
+    
+    public void setWord(String word) {
+        this.word = word;
+    }
+    
+    public String getDefinition() {
+        return definition;
+    }
+    
+    public void setDefinition(String definition) {
+        this.definition = definition;
+    }
+    
+    public String getCategories() {
+        return category;
+    }
+    
+    public void setCategories(String category) {
+        this.category = category;
+    }
+    
+    public LocalDateTime getAddedAt() {
+        return addedAt;
+    }
+    
+    public void setAddedAt(LocalDateTime addedAt) {
+        this.addedAt = addedAt;
+    }
+}
@@ -0,0 +1,86 @@
+package com.vocab.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import java.time.LocalDateTime;
+
+// records a deleted list or word so syncing clients can drop it; expires after RETENTION_DAYS
+@Document(collection = "tombstones")
+@CompoundIndex(name = "userId_deletedAt", def = "{'userId': 1, 'deletedAt': 1}")
+public class Tombstone {
+    
+    public static final String TYPE_LIST = "list";
+    public static final String TYPE_WORD = "word";
+    public static final int RETENTION_DAYS = 30;
+    
+    @Id
+    private String id;
+    private String userId;
+    private String type;
+    private String targetId;
+    private String listId;
+    @Indexed(name = "deletedAt_ttl", expireAfter = "30d")
+    private LocalDateTime deletedAt;
+    
+    public Tombstone() {
+        this.deletedAt = LocalDateTime.now();
+    }
+    
+    public Tombstone(String userId, String type, String targetId, String listId) {
+        this();
+        this.userId = userId;
+        this.type = type;
+        this.targetId = targetId;
+        this.listId = listId;
+    }
+    
+    public String getId() {
+        return id;
+    }
+    
+    public void setId(String id) {
+        this.id = id;
+    }
+    
+    public String getUserId() {
+        return userId;
+    }
+    
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+    
+    public String getType() {
+        return type;
+    }
+    
+    public void setType(String type) {
+        this.type = type;
+    }
+    
+    public String getTargetId() {
+        return targetId;
+    }
+    
+    public void setTargetId(String targetId) {
+        this.targetId = targetId;
+    }
+    
+    public String getListId() {
+        return listId;
+    }
+    
+    public void setListId(String listId) {
+        this.listId = listId;
+    }
+    
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+    
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+}
@@ -1,6 +1,8 @@
 package com.vocab.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.time.LocalDateTime;
 
@@ -9,11 +11,14 @@ public class User {
     
     @Id
     private String id;
+    @Indexed(unique = true)
     private String email;
     private String password;
     private String securityQuestion;
     private String securityAnswer;
     private LocalDateTime createdAt;
+    @JsonIgnore
+    private long tokenVersion; //bumped by a password reset, which revokes every refresh token issued before it
     
     public User() {
         this.createdAt = LocalDateTime.now();
@@ -66,4 +71,12 @@ public class User {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
-}
\ No newline at end of file
+    
+    public long getTokenVersion() {
+        return tokenVersion;
+    }
+    
+    public void setTokenVersion(long tokenVersion) {
+        this.tokenVersion = tokenVersion;
+    }
+}
@@ -1,20 +1,43 @@
 package com.vocab.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.time.LocalDateTime;
 
 @Document(collection = "vocablists")
+@CompoundIndexes({
+    @CompoundIndex(name = "userId_createdAt", def = "{'userId': 1, 'createdAt': 1}"),
+    @CompoundIndex(name = "userId_updatedAt", def = "{'userId': 1, 'updatedAt': 1}"),
+    @CompoundIndex(name = "userId_history", def = "{'userId': 1}", unique = true,
+            partialFilter = "{ 'history': true }")
+})
 public class VocabList {
     
+    public static final String HISTORY_LIST_NAME = "Vocab Word History";
+    
     @Id
     private String id;
     private String userId;
     private String listName;
     private LocalDateTime createdAt;
+    private LocalDateTime updatedAt; //bumped on every write, drives /api/vocab/sync
+    private long wordCount; //kept in step by $inc on every add/delete, repaired by VocabListCountReconciler
+    private LocalDateTime lastAddedAt;
+    private boolean history; //the "Vocab Word History" list, one per user, created on first use
+    @Indexed
+    private LocalDateTime deletedAt; //set when deletion starts; ListPurgeWorker removes the words, then the list
+    @JsonIgnore
+    private String purgeClaimedBy; //the ListPurgeWorker instance purging this list
+    @JsonIgnore
+    private LocalDateTime purgeClaimedUntil; //extended after every batch; another instance may take over once it passes
     
     public VocabList() {
         this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
     }
     
     public String getId() {
@@ -48,4 +71,60 @@ public class VocabList {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+    
+    public long getWordCount() {
+        return wordCount;
+    }
+    
+    public void setWordCount(long wordCount) {
+        this.wordCount = wordCount;
+    }
+    
+    public LocalDateTime getLastAddedAt() {
+        return lastAddedAt;
+    }
+    
+    public void setLastAddedAt(LocalDateTime lastAddedAt) {
+        this.lastAddedAt = lastAddedAt;
+    }
+    
+    public boolean isHistory() {
+        return history;
+    }
+    
+    public void setHistory(boolean history) {
+        this.history = history;
+    }
+    
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+    
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+    
+    public String getPurgeClaimedBy() {
+        return purgeClaimedBy;
+    }
+    
+    public void setPurgeClaimedBy(String purgeClaimedBy) {
+        this.purgeClaimedBy = purgeClaimedBy;
+    }
+    
+    public LocalDateTime getPurgeClaimedUntil() {
+        return purgeClaimedUntil;
+    }
+    
+    public void setPurgeClaimedUntil(LocalDateTime purgeClaimedUntil) {
+        this.purgeClaimedUntil = purgeClaimedUntil;
+    }
 }
@@ -1,23 +1,42 @@
 package com.vocab.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.time.LocalDateTime;
 
 @Document(collection = "wordinlists")
+@CompoundIndexes({
+    @CompoundIndex(name = "userId_listId_word", def = "{'userId': 1, 'listId': 1, 'word': 1}", unique = true),
+    @CompoundIndex(name = "userId_listId_addedAt", def = "{'userId': 1, 'listId': 1, 'addedAt': 1, '_id': 1}"),
+    @CompoundIndex(name = "userId_dueAt", def = "{'userId': 1, 'dueAt': 1}"),
+    @CompoundIndex(name = "userId_updatedAt", def = "{'userId': 1, 'updatedAt': 1}")
+})
 public class WordInList {
     
     @Id
     private String id;
+    @Indexed
     private String listId;
     private String userId;
     private String word;
     private String definition;
     private String category;
     private LocalDateTime addedAt;
+    private LocalDateTime updatedAt; //bumped on every write, drives /api/vocab/sync
+    // spaced-repetition state, see ReviewScheduler
+    private double easeFactor = 2.5;
+    private int intervalDays;
+    private int repetitions;
+    private LocalDateTime dueAt;
+    private LocalDateTime lastReviewedAt;
     
     public WordInList() {
         this.addedAt = LocalDateTime.now();
+        this.dueAt = this.addedAt;
+        this.updatedAt = this.addedAt;
     }
     
     public String getId() {
@@ -75,4 +94,52 @@ public class WordInList {
     public void setAddedAt(LocalDateTime addedAt) {
         this.addedAt = addedAt;
     }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+    
+    public double getEaseFactor() {
+        return easeFactor;
+    }
+    
+    public void setEaseFactor(double easeFactor) {
+        this.easeFactor = easeFactor;
+    }
+    
+    public int getIntervalDays() {
+        return intervalDays;
+    }
+    
+    public void setIntervalDays(int intervalDays) {
+        this.intervalDays = intervalDays;
+    }
+    
+    public int getRepetitions() {
+        return repetitions;
+    }
+    
+    public void setRepetitions(int repetitions) {
+        this.repetitions = repetitions;
+    }
+    
+    public LocalDateTime getDueAt() {
+        return dueAt;
+    }
+    
+    public void setDueAt(LocalDateTime dueAt) {
+        this.dueAt = dueAt;
+    }
+    
+    public LocalDateTime getLastReviewedAt() {
+        return lastReviewedAt;
+    }
+    
+    public void setLastReviewedAt(LocalDateTime lastReviewedAt) {
+        this.lastReviewedAt = lastReviewedAt;
+    }
 }
\ No newline at end of file
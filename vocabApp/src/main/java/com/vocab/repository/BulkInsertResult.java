@@ -0,0 +1,56 @@
+package com.vocab.repository;
+
+import com.mongodb.bulk.BulkWriteError;
+import org.springframework.data.mongodb.BulkOperationException;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Outcome of an unordered bulk insert: how many documents were written and which
+ * positions in the submitted list were rejected by a unique index.
+ */
+public class BulkInsertResult {
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final int insertedCount;
+    private final Set<Integer> duplicateIndexes;
+
+    public BulkInsertResult(int insertedCount, Set<Integer> duplicateIndexes) {
+        this.insertedCount = insertedCount;
+        this.duplicateIndexes = duplicateIndexes;
+    }
+
+    public static BulkInsertResult allInserted(int count) {
+        return new BulkInsertResult(count, Collections.emptySet());
+    }
+
+    /**
+     * Maps a failed unordered bulk insert to a result if every error is a duplicate key;
+     * any other write error is rethrown.
+     */
+    public static BulkInsertResult fromDuplicates(BulkOperationException e) {
+        Set<Integer> duplicates = new HashSet<>();
+        for (BulkWriteError error : e.getErrors()) {
+            if (error.getCode() != DUPLICATE_KEY) {
+                throw e;
+            }
+            duplicates.add(error.getIndex());
+        }
+        return new BulkInsertResult(e.getResult().getInsertedCount(), duplicates);
+    }
+
+    public int getInsertedCount() {
+        return insertedCount;
+    }
+
+    public Set<Integer> getDuplicateIndexes() {
+        return duplicateIndexes;
+    }
+
+    public boolean isDuplicate(int index) {
+        return duplicateIndexes.contains(index);
+    }
+}
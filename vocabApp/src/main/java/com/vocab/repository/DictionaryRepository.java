@@ -1,12 +1,17 @@
 package com.vocab.repository;
 
 import com.vocab.model.Dictionary;
+import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
-import org.springframework.data.mongodb.repository.Query;
+import java.util.Collection;
+import java.util.List;
 
-public interface DictionaryRepository extends MongoRepository<Dictionary, String> {
+public interface DictionaryRepository extends MongoRepository<Dictionary, String>, DictionaryRepositoryCustom {
     Dictionary findByWord(String word);
+    List<Dictionary> findByWordIn(Collection<String> words); //one $in query for a batch of words
+    Dictionary findFirstByOrderByIdDesc(); //newest entry, part of the snapshot version stamp
+    Dictionary findFirstByOrderByUpdatedAtDesc(); //last write, so in-place edits also change the stamp
     
-    @Query(value = "{}", fields = "{}")
+    @Aggregation(pipeline = "{ $sample: { size: 1 } }")
     Dictionary findRandomWord();
 }
\ No newline at end of file
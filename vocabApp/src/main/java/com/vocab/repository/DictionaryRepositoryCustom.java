@@ -0,0 +1,11 @@
+package com.vocab.repository;
+
+import com.vocab.model.Dictionary;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface DictionaryRepositoryCustom {
+    BulkInsertResult insertUnordered(List<Dictionary> words); //one round trip, keeps going past duplicates
+    List<Dictionary> findWrittenAfter(LocalDateTime since); //word and updatedAt only; all stamped entries if since is null
+}
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.vocab.repository;
+
+import com.vocab.model.Dictionary;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class DictionaryRepositoryCustomImpl implements DictionaryRepositoryCustom {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public BulkInsertResult insertUnordered(List<Dictionary> words) {
+        if (words.isEmpty()) {
+            return BulkInsertResult.allInserted(0);
+        }
+        try {
+            int inserted = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Dictionary.class)
+                    .insert(words)
+                    .execute()
+                    .getInsertedCount();
+            return BulkInsertResult.allInserted(inserted);
+        } catch (BulkOperationException e) {
+            return BulkInsertResult.fromDuplicates(e);
+        }
+    }
+
+    @Override
+    public List<Dictionary> findWrittenAfter(LocalDateTime since) {
+        Criteria updatedAt = Criteria.where("updatedAt");
+        Query query = Query.query(since == null ? updatedAt.ne(null) : updatedAt.gt(since));
+        query.fields().include("word", "updatedAt");
+        return mongoTemplate.find(query, Dictionary.class);
+    }
+}
@@ -0,0 +1,7 @@
+package com.vocab.repository;
+
+import com.vocab.model.JobLease;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface JobLeaseRepository extends MongoRepository<JobLease, String>, JobLeaseRepositoryCustom {
+}
@@ -0,0 +1,8 @@
+package com.vocab.repository;
+
+import java.time.Duration;
+
+public interface JobLeaseRepositoryCustom {
+    boolean tryAcquire(String job, String owner, Duration ttl); //true if the lease was free, expired or already ours; also renews it
+    void release(String job, String owner); //no-op if another owner took it over
+}
@@ -0,0 +1,40 @@
+package com.vocab.repository;
+
+import com.vocab.model.JobLease;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+public class JobLeaseRepositoryCustomImpl implements JobLeaseRepositoryCustom {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    // a lease held by someone else doesn't match, so the upsert collides on _id instead of taking it
+    @Override
+    public boolean tryAcquire(String job, String owner, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        Query query = Query.query(Criteria.where("id").is(job).orOperator(
+                Criteria.where("owner").is(owner),
+                Criteria.where("expiresAt").lt(now)));
+        Update update = new Update().set("owner", owner).set("expiresAt", now.plus(ttl));
+        try {
+            return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().upsert(true).returnNew(true),
+                    JobLease.class) != null;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void release(String job, String owner) {
+        mongoTemplate.remove(Query.query(Criteria.where("id").is(job).and("owner").is(owner)), JobLease.class);
+    }
+}
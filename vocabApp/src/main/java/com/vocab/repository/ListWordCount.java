@@ -0,0 +1,47 @@
+package com.vocab.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Number of words in one list and when the newest was added, as counted from the
+ * wordinlists collection.
+ */
+public class ListWordCount {
+
+    private String listId;
+    private long count;
+    private LocalDateTime lastAddedAt;
+
+    public ListWordCount() {
+    }
+
+    public ListWordCount(String listId, long count, LocalDateTime lastAddedAt) {
+        this.listId = listId;
+        this.count = count;
+        this.lastAddedAt = lastAddedAt;
+    }
+
+    public String getListId() {
+        return listId;
+    }
+
+    public void setListId(String listId) {
+        this.listId = listId;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public LocalDateTime getLastAddedAt() {
+        return lastAddedAt;
+    }
+
+    public void setLastAddedAt(LocalDateTime lastAddedAt) {
+        this.lastAddedAt = lastAddedAt;
+    }
+}
@@ -0,0 +1,10 @@
+package com.vocab.repository;
+
+import com.vocab.model.Tombstone;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TombstoneRepository extends MongoRepository<Tombstone, String> {
+    List<Tombstone> findByUserIdAndDeletedAtGreaterThan(String userId, LocalDateTime since); //deletions since a sync token
+}
\ No newline at end of file
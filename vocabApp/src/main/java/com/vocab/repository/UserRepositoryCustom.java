@@ -0,0 +1,5 @@
+package com.vocab.repository;
+
+public interface UserRepositoryCustom {
+    boolean updatePasswordIfUnchanged(String userId, String expectedHash, String newHash); //false if the hash changed meanwhile
+}
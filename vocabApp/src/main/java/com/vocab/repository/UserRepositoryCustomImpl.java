@@ -0,0 +1,22 @@
+package com.vocab.repository;
+
+import com.vocab.model.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    // matching on the old hash keeps a background rehash from undoing a password reset
+    @Override
+    public boolean updatePasswordIfUnchanged(String userId, String expectedHash, String newHash) {
+        Query query = Query.query(Criteria.where("id").is(userId).and("password").is(expectedHash));
+        return mongoTemplate.updateFirst(query, new Update().set("password", newHash), User.class)
+                .getModifiedCount() > 0;
+    }
+}
@@ -2,10 +2,14 @@ package com.vocab.repository;
 
 import com.vocab.model.VocabList;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
-public interface VocabListRepository extends MongoRepository<VocabList, String> {
-    List<VocabList> findByUserId(String userId);
-    Optional<VocabList> findFirstByUserIdOrderByCreatedAtAsc(String userId);
+public interface VocabListRepository extends MongoRepository<VocabList, String>, VocabListRepositoryCustom {
+    @Query("{ 'userId': ?0, 'deletedAt': null }")
+    List<VocabList> findByUserId(String userId); //lists being deleted are hidden
+    @Query(value = "{ 'userId': ?0, 'deletedAt': { $ne: null } }", fields = "{ '_id': 1 }")
+    List<VocabList> findDeletedByUserId(String userId); //ids of lists whose words are still being purged
+    List<VocabList> findByUserIdAndUpdatedAtGreaterThan(String userId, LocalDateTime since); //changes since a sync token, deleted lists included
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.vocab.repository;
+
+import com.vocab.model.LibraryList;
+import com.vocab.model.VocabList;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface VocabListRepositoryCustom {
+    void recordWordsAdded(String listId, int count, LocalDateTime lastAddedAt); //$inc wordCount, $max lastAddedAt
+    void recordWordRemoved(String listId); //$inc wordCount by -1
+    List<VocabList> findCountsPage(String afterId, int limit); //counters only, in _id order after afterId (null for the first page)
+    int applyWordCounts(List<VocabList> observed, List<ListWordCount> counts); //one unordered bulk $set, each only if the list still holds the observed counters
+    boolean markDeleted(String listId); //tombstone, clears the history flag; false if already deleted or missing
+    VocabList claimForPurge(String owner, Duration lease); //one tombstoned list no other ListPurgeWorker holds, null if none
+    boolean extendPurgeClaim(String listId, String owner, Duration lease); //false once another instance has taken the list over
+    List<LibraryList> findLibrary(String userId, int wordsPerList); //every list with its first words, one aggregation
+    Stream<LibraryList> streamLibrary(String userId, int wordsPerList); //same, read from a cursor, close after use
+    List<String> findUnflaggedHistoryListIds(); //oldest list of every user with no history list flagged
+    long markHistory(Collection<String> listIds);
+    VocabList ensureHistoryList(String userId); //upsert, so concurrent first uses still make one list
+}
\ No newline at end of file
@@ -0,0 +1,190 @@
+package com.vocab.repository;
+
+import com.vocab.model.LibraryList;
+import com.vocab.model.VocabList;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class VocabListRepositoryCustomImpl implements VocabListRepositoryCustom {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public void recordWordsAdded(String listId, int count, LocalDateTime lastAddedAt) {
+        Update update = new Update().inc("wordCount", count).set("updatedAt", LocalDateTime.now());
+        if (lastAddedAt != null) {
+            update.max("lastAddedAt", lastAddedAt);
+        }
+        mongoTemplate.updateFirst(byId(listId), update, VocabList.class);
+    }
+
+    @Override
+    public void recordWordRemoved(String listId) {
+        mongoTemplate.updateFirst(byId(listId), new Update().inc("wordCount", -1).set("updatedAt", LocalDateTime.now()),
+                VocabList.class);
+    }
+
+    @Override
+    public List<VocabList> findCountsPage(String afterId, int limit) {
+        Query query = afterId == null ? new Query() : Query.query(Criteria.where("id").gt(afterId));
+        query.fields().include("wordCount", "lastAddedAt");
+        return mongoTemplate.find(query.with(Sort.by("id")).limit(limit), VocabList.class);
+    }
+
+    // matching on the counters that were read makes a concurrent $inc win over the stale correction
+    @Override
+    public int applyWordCounts(List<VocabList> observed, List<ListWordCount> counts) {
+        if (counts.isEmpty()) {
+            return 0;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, VocabList.class);
+        for (int i = 0; i < counts.size(); i++) {
+            VocabList list = observed.get(i);
+            ListWordCount count = counts.get(i);
+            Query query = Query.query(Criteria.where("id").is(list.getId())
+                    .and("wordCount").is(list.getWordCount())
+                    .and("lastAddedAt").is(list.getLastAddedAt()));
+            bulk.updateOne(query, new Update()
+                    .set("wordCount", count.getCount())
+                    .set("lastAddedAt", count.getLastAddedAt())
+                    .set("updatedAt", LocalDateTime.now()));
+        }
+        return bulk.execute().getModifiedCount();
+    }
+
+    @Override
+    public boolean markDeleted(String listId) {
+        Query query = Query.query(Criteria.where("id").is(listId).and("deletedAt").is(null));
+        LocalDateTime now = LocalDateTime.now();
+        // dropping the flag frees the userId_history slot, so the next use gets a fresh history list
+        Update update = new Update().set("deletedAt", now).set("updatedAt", now).unset("history");
+        return mongoTemplate.updateFirst(query, update, VocabList.class).getModifiedCount() > 0;
+    }
+
+    // a claim that has run out means its instance stopped mid-purge, so the list is up for grabs again
+    @Override
+    public VocabList claimForPurge(String owner, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        Query query = Query.query(Criteria.where("deletedAt").ne(null).orOperator(
+                Criteria.where("purgeClaimedUntil").is(null),
+                Criteria.where("purgeClaimedUntil").lt(now)));
+        Update update = new Update().set("purgeClaimedBy", owner).set("purgeClaimedUntil", now.plus(lease));
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), VocabList.class);
+    }
+
+    @Override
+    public boolean extendPurgeClaim(String listId, String owner, Duration lease) {
+        Query query = Query.query(Criteria.where("id").is(listId).and("purgeClaimedBy").is(owner));
+        return mongoTemplate.updateFirst(query, new Update().set("purgeClaimedUntil", LocalDateTime.now().plus(lease)),
+                VocabList.class).getMatchedCount() > 0;
+    }
+
+    @Override
+    public List<LibraryList> findLibrary(String userId, int wordsPerList) {
+        return mongoTemplate.aggregate(library(userId, wordsPerList), "vocablists", LibraryList.class)
+                .getMappedResults();
+    }
+
+    @Override
+    public Stream<LibraryList> streamLibrary(String userId, int wordsPerList) {
+        return mongoTemplate.aggregateStream(library(userId, wordsPerList), "vocablists", LibraryList.class);
+    }
+
+    // lists in creation order, each joined to its oldest words through the userId_listId_addedAt index
+    private static Aggregation library(String userId, int wordsPerList) {
+        Document wordsPipeline = new Document("from", "wordinlists")
+                .append("let", new Document("listId", new Document("$toString", "$_id")))
+                .append("pipeline", List.of(
+                        new Document("$match", new Document("userId", userId)
+                                .append("$expr", new Document("$eq", List.of("$listId", "$$listId")))),
+                        new Document("$sort", new Document("addedAt", 1).append("_id", 1)),
+                        new Document("$limit", wordsPerList),
+                        new Document("$project", new Document("word", 1).append("definition", 1)
+                                .append("category", 1).append("addedAt", 1))))
+                .append("as", "words");
+        return Aggregation.newAggregation(
+                Aggregation.stage(new Document("$match", new Document("userId", userId).append("deletedAt", null))),
+                Aggregation.stage(new Document("$sort", new Document("createdAt", 1))),
+                Aggregation.stage(new Document("$project", new Document("userId", 0).append("deletedAt", 0))),
+                Aggregation.stage(new Document("$lookup", wordsPipeline)));
+    }
+
+    @Override
+    public List<String> findUnflaggedHistoryListIds() {
+        // walks the userId_createdAt index, so each group's first document is that user's oldest list
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("deletedAt").is(null)),
+                Aggregation.sort(Sort.by("userId", "createdAt")),
+                Aggregation.group("userId").first("_id").as("firstId").first("listName").as("firstName")
+                        .max("history").as("flagged"),
+                // users registered since history lists became lazy may have none yet; leave their lists alone
+                Aggregation.match(Criteria.where("flagged").ne(true).and("firstName").is(VocabList.HISTORY_LIST_NAME)))
+                .withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+        List<String> ids = new ArrayList<>();
+        for (Document group : mongoTemplate.aggregate(aggregation, VocabList.class, Document.class)) {
+            ids.add(group.get("firstId").toString());
+        }
+        return ids;
+    }
+
+    @Override
+    public long markHistory(Collection<String> listIds) {
+        if (listIds.isEmpty()) {
+            return 0;
+        }
+        return mongoTemplate.updateMulti(Query.query(Criteria.where("id").in(listIds)),
+                new Update().set("history", true).set("updatedAt", LocalDateTime.now()), VocabList.class).getModifiedCount();
+    }
+
+    @Override
+    public VocabList ensureHistoryList(String userId) {
+        Query query = Query.query(Criteria.where("userId").is(userId).and("history").is(true).and("deletedAt").is(null));
+        LocalDateTime now = LocalDateTime.now();
+        Update update = new Update()
+                .setOnInsert("listName", VocabList.HISTORY_LIST_NAME)
+                .setOnInsert("createdAt", now)
+                .setOnInsert("updatedAt", now)
+                .setOnInsert("wordCount", 0L);
+        try {
+            return mongoTemplate.findAndModify(query, update,
+                    FindAndModifyOptions.options().upsert(true).returnNew(true), VocabList.class);
+        } catch (DuplicateKeyException e) {
+            // another request's upsert won on the userId_history index; its list is the one
+            VocabList existing = mongoTemplate.findOne(query, VocabList.class);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        // the index slot is held by a history list deleted before markDeleted dropped the flag
+        mongoTemplate.updateMulti(Query.query(Criteria.where("userId").is(userId).and("history").is(true)
+                .and("deletedAt").ne(null)), new Update().unset("history"), VocabList.class);
+        try {
+            return mongoTemplate.findAndModify(query, update,
+                    FindAndModifyOptions.options().upsert(true).returnNew(true), VocabList.class);
+        } catch (DuplicateKeyException e) {
+            return mongoTemplate.findOne(query, VocabList.class);
+        }
+    }
+
+    private static Query byId(String listId) {
+        return Query.query(Criteria.where("id").is(listId));
+    }
+}
@@ -1,14 +1,27 @@
 package com.vocab.repository;
 
 import com.vocab.model.WordInList;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface WordInListRepository extends MongoRepository<WordInList, String> {
+public interface WordInListRepository extends MongoRepository<WordInList, String>, WordInListRepositoryCustom {
     List<WordInList> findByUserIdAndListId(String userId, String listId);
+    Stream<WordInList> streamByUserIdAndListIdOrderByAddedAtAscIdAsc(String userId, String listId); //cursor-backed, close after use
     Optional<WordInList> findByUserIdAndListIdAndWord(String userId, String listId, String word);
+    List<WordInList> findByUserIdAndListIdAndWordIn(String userId, String listId, Collection<String> words); //one $in query for a batch of words
     List<WordInList> findByUserId(String userId); //get all words for user
+    List<WordInList> findByUserIdAndUpdatedAtGreaterThan(String userId, LocalDateTime since); //changes since a sync token
     List<WordInList> findByListId(String listId); //get all words in a list
+    long countByListId(String listId); //words left to purge from a deleted list
+    List<WordInList> findByUserIdAndDueAtLessThanEqualAndListIdNotInOrderByDueAtAsc(String userId, LocalDateTime now, Collection<String> deletedListIds, Pageable page); //review queue, range scan on userId_dueAt skipping lists being deleted
     void deleteByListId(String listId); //delete all words in a list in one action
+    
+    @Aggregation(pipeline = { "{ $match: { userId: ?0, listId: ?1 } }", "{ $sample: { size: ?2 } }" })
+    List<WordInList> sampleByUserIdAndListId(String userId, String listId, int size); //random words for a quiz
 }
\ No newline at end of file
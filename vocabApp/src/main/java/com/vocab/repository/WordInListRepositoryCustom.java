@@ -0,0 +1,18 @@
+package com.vocab.repository;
+
+import com.vocab.model.WordInList;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface WordInListRepositoryCustom {
+    BulkInsertResult insertUnordered(List<WordInList> words); //one round trip, keeps going past duplicates
+    long deleteBatchByListId(String listId, int batchSize); //removes up to batchSize words, returns how many
+    WordInList removeById(String id, String userId); //delete and return the removed word in one round trip, null if none; userId null matches any owner
+    WordInList updateText(String id, String userId, String word, String definition); //$set of the editable fields only, returns the updated word or null; userId as above
+    int applyReviews(List<WordInList> reviewed); //one unordered bulk $set of the scheduling fields
+    long initializeDueDates(); //dueAt = addedAt on words saved before reviews existed
+    List<ListWordCount> countWordsByList(Collection<String> listIds); //one aggregation over a page of lists, for VocabListCountReconciler
+    List<WordInList> findPageAfter(String userId, String listId, LocalDateTime afterAddedAt, String afterId, int limit); //keyset page on (addedAt, _id); afterId null for the first page
+}
\ No newline at end of file
@@ -0,0 +1,136 @@
+package com.vocab.repository;
+
+import com.vocab.model.WordInList;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class WordInListRepositoryCustomImpl implements WordInListRepositoryCustom {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public BulkInsertResult insertUnordered(List<WordInList> words) {
+        if (words.isEmpty()) {
+            return BulkInsertResult.allInserted(0);
+        }
+        try {
+            int inserted = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, WordInList.class)
+                    .insert(words)
+                    .execute()
+                    .getInsertedCount();
+            return BulkInsertResult.allInserted(inserted);
+        } catch (BulkOperationException e) {
+            return BulkInsertResult.fromDuplicates(e);
+        }
+    }
+
+    @Override
+    public long deleteBatchByListId(String listId, int batchSize) {
+        Query batch = Query.query(Criteria.where("listId").is(listId)).limit(batchSize);
+        batch.fields().include("id");
+        List<String> ids = new ArrayList<>(batchSize);
+        for (WordInList word : mongoTemplate.find(batch, WordInList.class)) {
+            ids.add(word.getId());
+        }
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return mongoTemplate.remove(Query.query(Criteria.where("id").in(ids)), WordInList.class).getDeletedCount();
+    }
+
+    @Override
+    public WordInList removeById(String id, String userId) {
+        return mongoTemplate.findAndRemove(byIdAndOwner(id, userId), WordInList.class);
+    }
+
+    // the scheduling fields belong to reviews, so an edit never writes them back from a stale copy
+    @Override
+    public WordInList updateText(String id, String userId, String word, String definition) {
+        Update update = new Update().set("word", word).set("definition", definition).set("updatedAt", LocalDateTime.now());
+        return mongoTemplate.findAndModify(byIdAndOwner(id, userId), update,
+                FindAndModifyOptions.options().returnNew(true), WordInList.class);
+    }
+
+    // another user's word matches nothing, so it looks the same as a word that doesn't exist
+    private static Query byIdAndOwner(String id, String userId) {
+        Criteria criteria = Criteria.where("id").is(id);
+        return Query.query(userId == null ? criteria : criteria.and("userId").is(userId));
+    }
+
+    @Override
+    public int applyReviews(List<WordInList> reviewed) {
+        if (reviewed.isEmpty()) {
+            return 0;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, WordInList.class);
+        for (WordInList word : reviewed) {
+            bulk.updateOne(Query.query(Criteria.where("id").is(word.getId()).and("userId").is(word.getUserId())),
+                    new Update()
+                            .set("easeFactor", word.getEaseFactor())
+                            .set("intervalDays", word.getIntervalDays())
+                            .set("repetitions", word.getRepetitions())
+                            .set("dueAt", word.getDueAt())
+                            .set("lastReviewedAt", word.getLastReviewedAt())
+                            .set("updatedAt", word.getLastReviewedAt()));
+        }
+        return bulk.execute().getMatchedCount();
+    }
+
+    @Override
+    public long initializeDueDates() {
+        AggregationUpdate update = AggregationUpdate.from(List.of(Aggregation.stage(
+                new Document("$set", new Document("dueAt", new Document("$ifNull", List.of("$addedAt", "$$NOW")))))));
+        return mongoTemplate.updateMulti(Query.query(Criteria.where("dueAt").exists(false)), update, WordInList.class)
+                .getModifiedCount();
+    }
+
+    @Override
+    public List<ListWordCount> countWordsByList(Collection<String> listIds) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("listId").in(listIds)),
+                Aggregation.group("listId").count().as("count").max("addedAt").as("lastAddedAt"),
+                Aggregation.project("count", "lastAddedAt").and("listId").previousOperation())
+                .withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+        return mongoTemplate.aggregate(aggregation, WordInList.class, ListWordCount.class).getMappedResults();
+    }
+
+    @Override
+    public List<WordInList> findPageAfter(String userId, String listId, LocalDateTime afterAddedAt, String afterId,
+            int limit) {
+        Criteria criteria = Criteria.where("userId").is(userId).and("listId").is(listId);
+        if (afterId != null) {
+            // strictly after the cursor in (addedAt, _id) order, served by the userId_listId_addedAt index;
+            // words saved before addedAt existed sort first with a null timestamp
+            if (afterAddedAt == null) {
+                criteria = criteria.orOperator(
+                        Criteria.where("addedAt").is(null).and("id").gt(afterId),
+                        Criteria.where("addedAt").ne(null));
+            } else {
+                criteria = criteria.orOperator(
+                        Criteria.where("addedAt").gt(afterAddedAt),
+                        Criteria.where("addedAt").is(afterAddedAt).and("id").gt(afterId));
+            }
+        }
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Order.asc("addedAt"), Sort.Order.asc("id")))
+                .limit(limit);
+        return mongoTemplate.find(query, WordInList.class);
+    }
+}
@@ -0,0 +1,233 @@
+package com.vocab.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vocab.model.Dictionary;
+import com.vocab.repository.BulkInsertResult;
+import com.vocab.repository.DictionaryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streams a dictionary file into Mongo in batches.
+ *
+ * The input is read one line at a time and only the current batch is held in memory.
+ * Each batch is deduplicated, checked against existing words with one $in query and
+ * written with one unordered bulk insert. The in-memory dictionary indexes are rebuilt
+ * once after the last batch rather than per word.
+ */
+@Component
+public class DictionaryImporter {
+
+    public static final String FORMAT_NDJSON = "ndjson";
+    public static final String FORMAT_CSV = "csv";
+
+    private static final int MAX_REPORTED_REJECTS = 100;
+    private static final int MAX_BATCH_SIZE = 10000;
+
+    @Autowired
+    private DictionaryRepository dictionaryRepository;
+
+    @Autowired
+    private DictionaryIndexLoader dictionaryIndexLoader;
+
+    @Autowired
+    private DictionaryLookupCache dictionaryLookupCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${vocab.dictionary.import.batch-size:1000}")
+    private int defaultBatchSize = 1000;
+
+    public Summary importWords(InputStream input, String format, Integer batchSize) throws IOException {
+        int size = batchSize == null ? defaultBatchSize : Math.min(Math.max(batchSize, 1), MAX_BATCH_SIZE);
+        Summary summary = new Summary();
+        Map<String, Dictionary> batch = new LinkedHashMap<>();
+        boolean csv = FORMAT_CSV.equalsIgnoreCase(format);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String line;
+        int lineNumber = 0;
+        int[] columns = null;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (csv && columns == null) {
+                columns = csvColumns(line);
+                if (columns[0] < 0) {
+                    summary.reject(lineNumber, "CSV header must include a word column");
+                    break;
+                }
+                continue;
+            }
+            summary.received++;
+            Dictionary word;
+            try {
+                word = csv ? parseCsv(line, columns) : objectMapper.readValue(line, Dictionary.class);
+            } catch (Exception e) {
+                summary.reject(lineNumber, "Could not parse line: " + e.getMessage());
+                continue;
+            }
+            if (word == null || word.getWord() == null || word.getWord().isBlank()) {
+                summary.reject(lineNumber, "Missing word");
+                continue;
+            }
+            word.setId(null);
+            word.setWord(word.getWord().trim().toLowerCase());
+            word.setUpdatedAt(LocalDateTime.now());
+            if (batch.putIfAbsent(word.getWord(), word) != null) {
+                summary.duplicates++;
+                continue;
+            }
+            if (batch.size() >= size) {
+                flush(batch, summary);
+            }
+        }
+        flush(batch, summary);
+
+        if (summary.inserted > 0) {
+            dictionaryLookupCache.clear();
+            dictionaryIndexLoader.reload();
+        }
+        System.out.println(" Dictionary import: " + summary.inserted + " inserted, " + summary.duplicates
+                + " duplicates, " + summary.rejected + " rejected");
+        return summary;
+    }
+
+    // words already in Mongo (including ones from earlier batches of this file) are skipped
+    private void flush(Map<String, Dictionary> batch, Summary summary) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        for (Dictionary existing : dictionaryRepository.findByWordIn(batch.keySet())) {
+            if (batch.remove(existing.getWord()) != null) {
+                summary.duplicates++;
+            }
+        }
+        List<Dictionary> toInsert = new ArrayList<>(batch.values());
+        batch.clear();
+        if (toInsert.isEmpty()) {
+            return;
+        }
+        BulkInsertResult result = dictionaryRepository.insertUnordered(toInsert);
+        summary.inserted += result.getInsertedCount();
+        summary.duplicates += result.getDuplicateIndexes().size();
+        summary.batches++;
+    }
+
+    // maps word, shortdef, category and partOfSpeech to their header positions (-1 if absent)
+    private static int[] csvColumns(String header) {
+        int[] columns = { -1, -1, -1, -1 };
+        List<String> names = splitCsv(header);
+        for (int i = 0; i < names.size(); i++) {
+            switch (names.get(i).trim().toLowerCase()) {
+                case "word" -> columns[0] = i;
+                case "shortdef", "definition" -> columns[1] = i;
+                case "category" -> columns[2] = i;
+                case "partofspeech", "part_of_speech" -> columns[3] = i;
+                default -> { }
+            }
+        }
+        return columns;
+    }
+
+    private static Dictionary parseCsv(String line, int[] columns) {
+        List<String> fields = splitCsv(line);
+        Dictionary word = new Dictionary();
+        word.setWord(field(fields, columns[0]));
+        word.setShortdef(field(fields, columns[1]));
+        word.setCategory(field(fields, columns[2]));
+        word.setPartOfSpeech(field(fields, columns[3]));
+        return word;
+    }
+
+    private static String field(List<String> fields, int column) {
+        return column >= 0 && column < fields.size() ? fields.get(column) : null;
+    }
+
+    // RFC 4180 fields on a single line: commas inside quotes, "" for a literal quote
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quoted field");
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    public static final class Summary {
+        private long received;
+        private long inserted;
+        private long duplicates;
+        private long rejected;
+        private long batches;
+        private final List<Map<String, Object>> rejects = new ArrayList<>();
+
+        private void reject(int line, String reason) {
+            rejected++;
+            if (rejects.size() < MAX_REPORTED_REJECTS) {
+                rejects.add(Map.of("line", line, "reason", reason));
+            }
+        }
+
+        public long getReceived() {
+            return received;
+        }
+
+        public long getInserted() {
+            return inserted;
+        }
+
+        public long getDuplicates() {
+            return duplicates;
+        }
+
+        public long getRejected() {
+            return rejected;
+        }
+
+        public long getBatches() {
+            return batches;
+        }
+
+        public List<Map<String, Object>> getRejects() {
+            return rejects;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.vocab.service;
+
+import com.vocab.model.Dictionary;
+
+import java.util.List;
+
+/**
+ * An in-memory structure derived from the dictionary collection. Implementations are
+ * rebuilt from the full word list by {@link DictionaryIndexLoader} and kept current as
+ * single words are added.
+ */
+public interface DictionaryIndex {
+
+    void rebuild(List<Dictionary> words);
+
+    void add(Dictionary word);
+}
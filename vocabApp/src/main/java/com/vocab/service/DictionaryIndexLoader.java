@@ -0,0 +1,58 @@
+package com.vocab.service;
+
+import com.vocab.model.Dictionary;
+import com.vocab.repository.DictionaryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Loads the dictionary once and hands it to every {@link DictionaryIndex}, so adding
+ * another in-memory index doesn't add another full collection read at startup.
+ *
+ * When the {@link DictionarySnapshot} is enabled and still current, the entries come
+ * from the mapped file and Mongo is only asked for its version stamp.
+ */
+@Component
+public class DictionaryIndexLoader {
+
+    @Autowired
+    private DictionaryRepository dictionaryRepository;
+
+    @Autowired
+    private DictionarySnapshot dictionarySnapshot;
+
+    @Autowired
+    private List<DictionaryIndex> indexes;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        long start = System.currentTimeMillis();
+        List<Dictionary> words = null;
+        if (dictionarySnapshot.isEnabled()) {
+            try {
+                words = dictionarySnapshot.refresh();
+            } catch (IOException e) {
+                System.err.println("⚠️ Dictionary snapshot unavailable, loading from Mongo: " + e.getMessage());
+            }
+        }
+        if (words == null) {
+            words = dictionaryRepository.findAll();
+        }
+        for (DictionaryIndex index : indexes) {
+            index.rebuild(words);
+        }
+        System.out.println(" Dictionary indexes loaded " + words.size() + " words in "
+                + (System.currentTimeMillis() - start) + " ms");
+    }
+
+    public void add(Dictionary word) {
+        for (DictionaryIndex index : indexes) {
+            index.add(word);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.vocab.service;
+
+import com.vocab.model.Dictionary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded read-through cache for dictionary lookups by word.
+ *
+ * Found words are kept for the normal TTL, misses are remembered for a shorter one so
+ * repeated lookups of unknown words don't reach Mongo either. Entries are split over a
+ * fixed number of LRU segments so concurrent lookups rarely wait on the same lock.
+ */
+@Component
+public class DictionaryLookupCache {
+
+    private static final int SEGMENTS = 16;
+
+    @Value("${vocab.dictionary.cache.max-size:20000}")
+    private int maxSize = 20000;
+
+    @Value("${vocab.dictionary.cache.ttl-seconds:600}")
+    private long ttlSeconds = 600;
+
+    @Value("${vocab.dictionary.cache.negative-ttl-seconds:30}")
+    private long negativeTtlSeconds = 30;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public DictionaryLookupCache() {
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * Returns the cached lookup for a lowercase word, or null if the word has to be
+     * fetched. A non-null entry with a null word is a remembered miss.
+     */
+    public Entry get(String word) {
+        Segment segment = segmentFor(word);
+        Entry entry;
+        synchronized (segment) {
+            entry = segment.get(word);
+            if (entry != null && entry.expiresAt <= System.nanoTime()) {
+                segment.remove(word);
+                expirations.increment();
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            misses.increment();
+        } else if (entry.word == null) {
+            negativeHits.increment();
+        } else {
+            hits.increment();
+        }
+        return entry;
+    }
+
+    /** Caches the result of a lookup; a null result is cached as a miss. */
+    public void put(String word, Dictionary result) {
+        long ttlNanos = (result == null ? negativeTtlSeconds : ttlSeconds) * 1_000_000_000L;
+        if (ttlNanos <= 0) {
+            return;
+        }
+        Entry entry = new Entry(result, System.nanoTime() + ttlNanos);
+        Segment segment = segmentFor(word);
+        synchronized (segment) {
+            segment.put(word, entry);
+        }
+    }
+
+    public void invalidate(String word) {
+        Segment segment = segmentFor(word);
+        synchronized (segment) {
+            segment.remove(word);
+        }
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", size());
+        stats.put("maxSize", maxSize);
+        stats.put("hits", hits.sum());
+        stats.put("negativeHits", negativeHits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("evictions", evictions.sum());
+        stats.put("expirations", expirations.sum());
+        return stats;
+    }
+
+    private Segment segmentFor(String word) {
+        int h = word.hashCode();
+        return segments[(h ^ (h >>> 16)) & (SEGMENTS - 1)];
+    }
+
+    public static final class Entry {
+        private final Dictionary word;
+        private final long expiresAt;
+
+        private Entry(Dictionary word, long expiresAt) {
+            this.word = word;
+            this.expiresAt = expiresAt;
+        }
+
+        public Dictionary getWord() {
+            return word;
+        }
+
+        public boolean isMiss() {
+            return word == null;
+        }
+    }
+
+    private final class Segment extends LinkedHashMap<String, Entry> {
+
+        private Segment() {
+            super(64, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            if (size() > Math.max(1, maxSize / SEGMENTS)) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.vocab.service;
+
+import com.vocab.model.Dictionary;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact int handles to dictionary entries for the in-memory indexes.
+ *
+ * When an index is rebuilt from the snapshot's mapped view, an entry's handle is its
+ * position in the mapping and the entry is decoded again when it is needed, so the index
+ * holds no Dictionary objects for it. Entries from any other source, and words added
+ * after the rebuild, are kept on the heap under negative handles. Callers synchronize.
+ */
+final class DictionaryRefs {
+
+    private final DictionarySnapshot.Mapping mapping;
+
+    private Dictionary[] heap = new Dictionary[0];
+    private int heapSize;
+
+    DictionaryRefs() {
+        this.mapping = null;
+    }
+
+    /** Handles for the words passed to a rebuild; mapped if they are the snapshot's view. */
+    DictionaryRefs(List<Dictionary> words) {
+        this.mapping = words instanceof DictionarySnapshot.MappedEntries mapped ? mapped.mapping() : null;
+    }
+
+    /** The handle for words.get(index), where words is the list this was built for. */
+    int refAt(int index, Dictionary entry) {
+        return mapping != null ? index : add(entry);
+    }
+
+    int add(Dictionary entry) {
+        if (heapSize == heap.length) {
+            heap = Arrays.copyOf(heap, Math.max(16, heapSize * 2));
+        }
+        heap[heapSize] = entry;
+        return -(++heapSize);
+    }
+
+    Dictionary get(int ref) {
+        return ref >= 0 ? mapping.decode(ref) : heap[-ref - 1];
+    }
+}
@@ -0,0 +1,102 @@
+package com.vocab.service;
+
+import com.vocab.model.Dictionary;
+import com.vocab.repository.DictionaryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks a uniformly random dictionary entry without loading the collection per request.
+ *
+ * In "memory" mode picks come from the mapped {@link DictionarySnapshot} when it is
+ * loaded, plus an append-only array of words added since; without a snapshot the array
+ * holds every entry handed over by {@link DictionaryIndexLoader}. In "aggregate" mode
+ * nothing is held in memory and each pick is a single $sample aggregation in Mongo.
+ */
+@Component
+public class DictionarySampler implements DictionaryIndex {
+
+    public static final String MODE_MEMORY = "memory";
+    public static final String MODE_AGGREGATE = "aggregate";
+
+    @Autowired
+    private DictionaryRepository dictionaryRepository;
+
+    @Autowired
+    private DictionarySnapshot dictionarySnapshot;
+
+    @Value("${vocab.dictionary.sampler.mode:memory}")
+    private String mode = MODE_MEMORY;
+
+    private final Object writeLock = new Object();
+
+    // entries and size are published together so readers never see a size past the array
+    private volatile Entries entries = new Entries(new Dictionary[0], 0);
+
+    @Override
+    public void rebuild(List<Dictionary> words) {
+        if (!isMemoryMode()) {
+            return;
+        }
+        synchronized (writeLock) {
+            // with a loaded snapshot only words added after this point live on the heap
+            entries = dictionarySnapshot.isLoaded()
+                    ? new Entries(new Dictionary[0], 0)
+                    : new Entries(words.toArray(new Dictionary[0]), words.size());
+        }
+    }
+
+    public Dictionary sample() {
+        Entries current = entries;
+        int mapped = isMemoryMode() ? dictionarySnapshot.size() : 0;
+        if (!isMemoryMode() || mapped + current.size == 0) {
+            // not loaded yet (or running without the in-memory copy): let Mongo pick
+            return dictionaryRepository.findRandomWord();
+        }
+        int pick = ThreadLocalRandom.current().nextInt(mapped + current.size);
+        if (pick >= mapped) {
+            return current.words[pick - mapped];
+        }
+        Dictionary word = dictionarySnapshot.get(pick);
+        return word != null ? word : dictionaryRepository.findRandomWord();
+    }
+
+    @Override
+    public void add(Dictionary word) {
+        if (!isMemoryMode() || word == null) {
+            return;
+        }
+        synchronized (writeLock) {
+            Entries current = entries;
+            Dictionary[] words = current.words;
+            if (current.size == words.length) {
+                words = Arrays.copyOf(words, Math.max(16, words.length + (words.length >> 1)));
+            }
+            words[current.size] = word;
+            entries = new Entries(words, current.size + 1);
+        }
+    }
+
+    public int size() {
+        return entries.size;
+    }
+
+    private boolean isMemoryMode() {
+        return !MODE_AGGREGATE.equalsIgnoreCase(mode);
+    }
+
+    private static final class Entries {
+        private final Dictionary[] words;
+        private final int size;
+
+        private Entries(Dictionary[] words, int size) {
+            this.words = words;
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.vocab.service;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.vocab.model.Dictionary;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Reverse-dictionary search: an inverted index over {@link Dictionary#getShortdef()}
+ * scored with BM25.
+ *
+ * Definitions are lowercased, split on anything that isn't a letter or digit, stripped
+ * of stop words and reduced with a light suffix stemmer. Scores are accumulated into a
+ * per-thread array indexed by document number, so a query allocates only its result.
+ * Documents are held as {@link DictionaryRefs} handles plus their category and part of
+ * speech for filtering; only the returned hits are decoded into entries.
+ */
+@Component
+public class DictionarySearchIndex implements DictionaryIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "into",
+            "is", "it", "its", "of", "on", "or", "that", "the", "to", "with", "word", "which");
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+
+    private Index index = new Index();
+
+    @Override
+    public void rebuild(List<Dictionary> words) {
+        Index newIndex = new Index(new DictionaryRefs(words));
+        for (int i = 0; i < words.size(); i++) {
+            Dictionary word = words.get(i);
+            newIndex.add(word, newIndex.refs.refAt(i, word));
+        }
+        lock.writeLock().lock();
+        try {
+            index = newIndex;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void add(Dictionary word) {
+        if (word == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            index.add(word, index.refs.add(word));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the best matching entries for a free-text query, optionally limited to a
+     * category and/or part of speech (case-insensitive, null for any).
+     */
+    public List<Hit> search(String query, String category, String partOfSpeech, int limit) {
+        if (query == null || limit <= 0) {
+            return Collections.emptyList();
+        }
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return Collections.emptyList();
+        }
+        lock.readLock().lock();
+        try {
+            Index current = index;
+            if (current.docCount == 0) {
+                return Collections.emptyList();
+            }
+            Scratch work = scratch.get();
+            work.ensureCapacity(current.docCount);
+            float avgLength = (float) current.totalLength / current.docCount;
+
+            for (int t = 0; t < terms.size(); t++) {
+                String term = terms.get(t);
+                if (terms.indexOf(term) != t) {
+                    continue;
+                }
+                Postings postings = current.postings.get(term);
+                if (postings == null) {
+                    continue;
+                }
+                float idf = (float) Math.log(1 + (current.docCount - postings.size + 0.5) / (postings.size + 0.5));
+                for (int p = 0; p < postings.size; p++) {
+                    int doc = postings.docs[p];
+                    if (!matches(current, doc, category, partOfSpeech)) {
+                        continue;
+                    }
+                    int tf = postings.freqs[p];
+                    float norm = K1 * (1 - B + B * current.docLengths[doc] / avgLength);
+                    work.accumulate(doc, idf * tf * (K1 + 1) / (tf + norm));
+                }
+            }
+            return work.drainTop(current, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean matches(Index index, int doc, String category, String partOfSpeech) {
+        return (category == null || category.equalsIgnoreCase(index.categories[doc]))
+                && (partOfSpeech == null || partOfSpeech.equalsIgnoreCase(index.partsOfSpeech[doc]));
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String lower = text.toLowerCase();
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean letter = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                String token = lower.substring(start, i);
+                if (!STOP_WORDS.contains(token)) {
+                    tokens.add(stem(token));
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    // light suffix stripping: enough to match "fears"/"fearing"/"feared" without a full Porter stemmer
+    static String stem(String token) {
+        int n = token.length();
+        if (n > 4 && token.endsWith("ies")) {
+            return token.substring(0, n - 3) + "y";
+        }
+        if (n > 5 && token.endsWith("ing")) {
+            return undouble(token.substring(0, n - 3));
+        }
+        if (n > 4 && token.endsWith("ed")) {
+            return undouble(token.substring(0, n - 2));
+        }
+        if (n > 4 && token.endsWith("ly")) {
+            return token.substring(0, n - 2);
+        }
+        if (n > 5 && token.endsWith("ness")) {
+            return token.substring(0, n - 4);
+        }
+        if (n > 3 && token.endsWith("s") && !token.endsWith("ss") && !token.endsWith("us") && !token.endsWith("is")) {
+            return token.substring(0, n - 1);
+        }
+        return token;
+    }
+
+    private static String undouble(String stem) {
+        int n = stem.length();
+        if (n > 2 && stem.charAt(n - 1) == stem.charAt(n - 2) && "lsz".indexOf(stem.charAt(n - 1)) < 0) {
+            return stem.substring(0, n - 1);
+        }
+        return stem;
+    }
+
+    public static final class Hit {
+        private final Dictionary entry;
+        private final float score;
+
+        private Hit(Dictionary entry, float score) {
+            this.entry = entry;
+            this.score = score;
+        }
+
+        @JsonUnwrapped
+        public Dictionary getEntry() {
+            return entry;
+        }
+
+        public float getScore() {
+            return score;
+        }
+    }
+
+    private static final class Index {
+        private final DictionaryRefs refs;
+        private final Map<String, Postings> postings = new HashMap<>();
+        // few distinct values, so each is stored once and shared by every doc
+        private final Map<String, String> labels = new HashMap<>();
+        private int[] docRefs = new int[16];
+        private String[] categories = new String[16];
+        private String[] partsOfSpeech = new String[16];
+        private int[] docLengths = new int[16];
+        private int docCount;
+        private long totalLength;
+
+        private Index() {
+            this(new DictionaryRefs());
+        }
+
+        private Index(DictionaryRefs refs) {
+            this.refs = refs;
+        }
+
+        private void add(Dictionary word, int ref) {
+            if (docCount == docRefs.length) {
+                docRefs = Arrays.copyOf(docRefs, docCount * 2);
+                categories = Arrays.copyOf(categories, docCount * 2);
+                partsOfSpeech = Arrays.copyOf(partsOfSpeech, docCount * 2);
+                docLengths = Arrays.copyOf(docLengths, docCount * 2);
+            }
+            int doc = docCount++;
+            List<String> terms = tokenize(word.getShortdef());
+            docRefs[doc] = ref;
+            categories[doc] = label(word.getCategory());
+            partsOfSpeech[doc] = label(word.getPartOfSpeech());
+            docLengths[doc] = terms.size();
+            totalLength += terms.size();
+            for (String term : terms) {
+                postings.computeIfAbsent(term, key -> new Postings()).add(doc);
+            }
+        }
+
+        private String label(String value) {
+            return value == null ? null : labels.computeIfAbsent(value, key -> key);
+        }
+    }
+
+    // doc ids are appended in increasing order, so a repeated term only bumps the last entry
+    private static final class Postings {
+        private int[] docs = new int[2];
+        private int[] freqs = new int[2];
+        private int size;
+
+        private void add(int doc) {
+            if (size > 0 && docs[size - 1] == doc) {
+                freqs[size - 1]++;
+                return;
+            }
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = 1;
+            size++;
+        }
+    }
+
+    private static final class Scratch {
+        private float[] scores = new float[0];
+        private int[] touched = new int[0];
+        private int touchedCount;
+
+        private void ensureCapacity(int docCount) {
+            if (scores.length < docCount) {
+                scores = new float[docCount];
+                touched = new int[docCount];
+            }
+        }
+
+        private void accumulate(int doc, float score) {
+            if (scores[doc] == 0f) {
+                touched[touchedCount++] = doc;
+            }
+            scores[doc] += score;
+        }
+
+        // picks the top entries and clears every touched slot for the next query
+        private List<Hit> drainTop(Index index, int limit) {
+            int k = Math.min(limit, touchedCount);
+            int[] topDocs = new int[k];
+            float[] topScores = new float[k];
+            int filled = 0;
+            for (int i = 0; i < touchedCount; i++) {
+                int doc = touched[i];
+                float score = scores[doc];
+                scores[doc] = 0f;
+                if (filled == k && score <= topScores[k - 1]) {
+                    continue;
+                }
+                int at = filled < k ? filled++ : k - 1;
+                while (at > 0 && topScores[at - 1] < score) {
+                    topScores[at] = topScores[at - 1];
+                    topDocs[at] = topDocs[at - 1];
+                    at--;
+                }
+                topScores[at] = score;
+                topDocs[at] = doc;
+            }
+            touchedCount = 0;
+            List<Hit> hits = new ArrayList<>(filled);
+            for (int i = 0; i < filled; i++) {
+                hits.add(new Hit(index.refs.get(index.docRefs[topDocs[i]]), topScores[i]));
+            }
+            return hits;
+        }
+    }
+}
@@ -0,0 +1,456 @@
+package com.vocab.service;
+
+import com.vocab.model.Dictionary;
+import com.vocab.repository.DictionaryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-only copy of the dictionary collection in a memory-mapped file.
+ *
+ * The file holds a header with a version stamp, a table of record offsets sorted by the
+ * UTF-8 bytes of each word, and the records themselves. Lookups binary search the table
+ * straight out of the mapping, so the entries stay off the Java heap and JVMs on the
+ * same host share one copy through the OS page cache.
+ *
+ * The stamp is the collection's document count, its highest _id and its latest
+ * updatedAt, so inserts, deletes and in-place edits all change it. If it still matches
+ * Mongo at startup the file is reused as-is; otherwise it is rebuilt from one read of the
+ * collection and swapped in with an atomic rename. Words edited while the app is running
+ * are {@link #invalidate invalidated} so lookups for them fall through to Mongo.
+ *
+ * Edits made through another instance only show up in Mongo, so every
+ * vocab.dictionary.snapshot.poll-ms this instance reads the words written since it last
+ * looked and invalidates them too. Until that poll runs, another instance's edit can still
+ * be answered from the mapping with the old definition. The search and suggestion indexes
+ * built from the mapping keep the old entry until the next restart.
+ *
+ * The indexes are handed a list view that decodes one record per get, and hold entries
+ * by their position in the mapping (see {@link DictionaryRefs}) rather than as objects.
+ */
+@Component
+public class DictionarySnapshot {
+
+    private static final int MAGIC = 0x56445331; // "VDS1"
+
+    @Autowired
+    private DictionaryRepository dictionaryRepository;
+
+    @Autowired
+    private DictionaryLookupCache dictionaryLookupCache;
+
+    @Value("${vocab.dictionary.snapshot.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${vocab.dictionary.snapshot.path:${java.io.tmpdir}/vocab-dictionary.snapshot}")
+    private String path = System.getProperty("java.io.tmpdir") + "/vocab-dictionary.snapshot";
+
+    // instances stamp updatedAt with their own clocks, so each poll looks back this far again
+    @Value("${vocab.dictionary.snapshot.poll-overlap-ms:60000}")
+    private long pollOverlapMs = 60000;
+
+    private volatile Mapping mapping;
+
+    // latest updatedAt this instance has accounted for; null when nothing was stamped yet
+    private volatile LocalDateTime writtenUpTo;
+
+    // words written since the mapping was built; their mapped records may be stale
+    private final Set<String> invalidated = ConcurrentHashMap.newKeySet();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isLoaded() {
+        return mapping != null;
+    }
+
+    /**
+     * Maps the snapshot file, rebuilding it first if its stamp no longer matches Mongo,
+     * and returns a view of every entry, decoded on access, for building the indexes.
+     */
+    public List<Dictionary> refresh() throws IOException {
+        Dictionary lastWritten = dictionaryRepository.findFirstByOrderByUpdatedAtDesc();
+        LocalDateTime writtenAt = lastWritten == null ? null : lastWritten.getUpdatedAt();
+        String stamp = currentStamp(writtenAt);
+        Path file = Paths.get(path);
+        Mapping existing = open(file);
+        if (existing != null && existing.stamp.equals(stamp)) {
+            publish(existing, writtenAt);
+            System.out.println(" Dictionary snapshot reused (" + existing.count + " words)");
+            return existing.entries();
+        }
+        int fetched = rebuildFile(file, stamp);
+        Mapping rebuilt = open(file);
+        if (rebuilt == null) {
+            throw new IOException("Snapshot " + file + " could not be mapped after writing it");
+        }
+        publish(rebuilt, writtenAt);
+        System.out.println(" Dictionary snapshot rebuilt (" + fetched + " words)");
+        return rebuilt.entries();
+    }
+
+    // the full read is only held until it is written out; the indexes are built from the mapping
+    private int rebuildFile(Path file, String stamp) throws IOException {
+        List<Dictionary> words = dictionaryRepository.findAll();
+        write(file, words, stamp);
+        return words.size();
+    }
+
+    /** Returns the entry for a lowercase word, or null if it isn't in the snapshot. */
+    public Dictionary find(String word) {
+        Mapping current = mapping;
+        if (current == null || invalidated.contains(word)) {
+            return null;
+        }
+        return current.find(word.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Stops serving a word from the mapping after it was written in Mongo. */
+    public void invalidate(String word) {
+        if (word != null) {
+            invalidated.add(word);
+        }
+    }
+
+    /**
+     * Invalidates the mapped words another instance has written since the last poll, so
+     * their lookups fall through to Mongo. Returns how many were invalidated.
+     */
+    @Scheduled(initialDelayString = "${vocab.dictionary.snapshot.poll-ms:30000}",
+            fixedDelayString = "${vocab.dictionary.snapshot.poll-ms:30000}")
+    public int pollChanges() {
+        Mapping current = mapping;
+        if (current == null) {
+            return 0;
+        }
+        try {
+            LocalDateTime since = writtenUpTo;
+            LocalDateTime latest = since;
+            int stale = 0;
+            List<Dictionary> written = dictionaryRepository.findWrittenAfter(
+                    since == null ? null : since.minusNanos(pollOverlapMs * 1_000_000L));
+            for (Dictionary entry : written) {
+                // new words aren't in the mapping and already go to Mongo
+                if (current.indexOf(entry.getWord()) >= 0 && invalidated.add(entry.getWord())) {
+                    dictionaryLookupCache.invalidate(entry.getWord());
+                    stale++;
+                }
+                if (entry.getUpdatedAt() != null && (latest == null || entry.getUpdatedAt().isAfter(latest))) {
+                    latest = entry.getUpdatedAt();
+                }
+            }
+            if (mapping == current) {
+                writtenUpTo = latest;
+            }
+            return stale;
+        } catch (Exception e) {
+            System.err.println("⚠️ Could not poll dictionary changes: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    private void publish(Mapping next, LocalDateTime writtenAt) {
+        mapping = next;
+        writtenUpTo = writtenAt;
+        invalidated.clear();
+    }
+
+    /** Returns the entry at a position in word order, or null if out of range. */
+    public Dictionary get(int index) {
+        Mapping current = mapping;
+        return current == null || index < 0 || index >= current.count ? null : current.decode(index);
+    }
+
+    public int size() {
+        Mapping current = mapping;
+        return current == null ? 0 : current.count;
+    }
+
+    private String currentStamp(LocalDateTime writtenAt) {
+        Dictionary last = dictionaryRepository.findFirstByOrderByIdDesc();
+        return dictionaryRepository.count() + ":" + (last == null ? "" : last.getId()) + ":"
+                + (writtenAt == null ? "" : writtenAt);
+    }
+
+    static void write(Path file, List<Dictionary> words, String stamp) throws IOException {
+        List<byte[]> keys = new ArrayList<>(words.size());
+        List<Dictionary> sorted = new ArrayList<>(words.size());
+        Integer[] order = new Integer[words.size()];
+        byte[][] wordBytes = new byte[words.size()][];
+        for (int i = 0; i < words.size(); i++) {
+            order[i] = i;
+            String word = words.get(i).getWord();
+            wordBytes[i] = word == null ? null : word.getBytes(StandardCharsets.UTF_8);
+        }
+        Arrays.sort(order, (a, b) -> Arrays.compareUnsigned(
+                wordBytes[a] == null ? new byte[0] : wordBytes[a],
+                wordBytes[b] == null ? new byte[0] : wordBytes[b]));
+        for (Integer i : order) {
+            byte[] key = wordBytes[i];
+            if (key == null || (!keys.isEmpty() && Arrays.equals(keys.get(keys.size() - 1), key))) {
+                continue;
+            }
+            keys.add(key);
+            sorted.add(words.get(i));
+        }
+
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            byte[] stampBytes = stamp.getBytes(StandardCharsets.UTF_8);
+            int[] offsets = new int[sorted.size()];
+            int position = 0;
+            for (int i = 0; i < sorted.size(); i++) {
+                offsets[i] = position;
+                position += recordLength(sorted.get(i));
+            }
+            try (OutputStream stream = Files.newOutputStream(temp);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream, 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeInt(stampBytes.length);
+                out.write(stampBytes);
+                out.writeInt(sorted.size());
+                for (int offset : offsets) {
+                    out.writeInt(offset);
+                }
+                for (Dictionary entry : sorted) {
+                    writeString(out, entry.getWord());
+                    writeString(out, entry.getId());
+                    writeString(out, entry.getShortdef());
+                    writeString(out, entry.getCategory());
+                    writeString(out, entry.getPartOfSpeech());
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /** Maps an existing snapshot file, or returns null if it is missing, unreadable or malformed. */
+    static Mapping open(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                return null;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int limit = buffer.limit();
+            if (limit < 12 || buffer.getInt(0) != MAGIC) {
+                return null;
+            }
+            int stampLength = buffer.getInt(4);
+            if (stampLength < 0 || stampLength > limit - 12) {
+                return null;
+            }
+            byte[] stamp = new byte[stampLength];
+            buffer.get(8, stamp);
+            int count = buffer.getInt(8 + stampLength);
+            int offsetsStart = 12 + stampLength;
+            if (count < 0 || count > (limit - offsetsStart) / 4) {
+                return null;
+            }
+            Mapping mapping = new Mapping(buffer, new String(stamp, StandardCharsets.UTF_8), count, offsetsStart,
+                    offsetsStart + 4 * count);
+            return mapping.isWellFormed() ? mapping : null;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("⚠️ Could not map dictionary snapshot " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static int recordLength(Dictionary entry) {
+        return stringLength(entry.getWord()) + stringLength(entry.getId()) + stringLength(entry.getShortdef())
+                + stringLength(entry.getCategory()) + stringLength(entry.getPartOfSpeech());
+    }
+
+    private static int stringLength(String value) {
+        return 4 + (value == null ? 0 : value.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static final class Mapping {
+        private final MappedByteBuffer buffer;
+        private final String stamp;
+        private final int count;
+        private final int offsetsStart;
+        private final int dataStart;
+
+        private Mapping(MappedByteBuffer buffer, String stamp, int count, int offsetsStart, int dataStart) {
+            this.buffer = buffer;
+            this.stamp = stamp;
+            this.count = count;
+            this.offsetsStart = offsetsStart;
+            this.dataStart = dataStart;
+        }
+
+        String stamp() {
+            return stamp;
+        }
+
+        int count() {
+            return count;
+        }
+
+        // every offset must be ascending and every record's five fields must end before the next one,
+        // so a truncated or hand-edited file is rejected here instead of failing on some later lookup
+        private boolean isWellFormed() {
+            int limit = buffer.limit();
+            int previousEnd = dataStart;
+            for (int i = 0; i < count; i++) {
+                long start = (long) dataStart + buffer.getInt(offsetsStart + 4 * i);
+                if (start != previousEnd) {
+                    return false;
+                }
+                long position = start;
+                for (int field = 0; field < 5; field++) {
+                    if (position + 4 > limit) {
+                        return false;
+                    }
+                    int length = buffer.getInt((int) position);
+                    if (length < -1 || (field == 0 && length < 0)) {
+                        return false;
+                    }
+                    position += 4 + Math.max(length, 0);
+                    if (position > limit) {
+                        return false;
+                    }
+                }
+                previousEnd = (int) position;
+            }
+            return previousEnd == limit;
+        }
+
+        List<Dictionary> entries() {
+            return new MappedEntries(this);
+        }
+
+        // only absolute reads, so the shared buffer's position is never touched
+        private Dictionary find(byte[] key) {
+            int index = indexOf(key);
+            return index < 0 ? null : decode(index);
+        }
+
+        private int compareWord(int record, byte[] key) {
+            int length = buffer.getInt(record);
+            int common = Math.min(length, key.length);
+            for (int i = 0; i < common; i++) {
+                int cmp = Integer.compare(buffer.get(record + 4 + i) & 0xff, key[i] & 0xff);
+                if (cmp != 0) {
+                    return cmp;
+                }
+            }
+            return Integer.compare(length, key.length);
+        }
+
+        private int recordStart(int index) {
+            return dataStart + buffer.getInt(offsetsStart + 4 * index);
+        }
+
+        Dictionary decode(int index) {
+            int[] position = { recordStart(index) };
+            Dictionary entry = new Dictionary();
+            entry.setWord(readString(position));
+            entry.setId(readString(position));
+            entry.setShortdef(readString(position));
+            entry.setCategory(readString(position));
+            entry.setPartOfSpeech(readString(position));
+            return entry;
+        }
+
+        /** Position of a word in the mapping, or -1. */
+        int indexOf(String word) {
+            return word == null ? -1 : indexOf(word.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private int indexOf(byte[] key) {
+            int low = 0;
+            int high = count - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = compareWord(recordStart(mid), key);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -1;
+        }
+
+        private String readString(int[] position) {
+            int length = buffer.getInt(position[0]);
+            position[0] += 4;
+            if (length < 0) {
+                return null;
+            }
+            byte[] bytes = new byte[length];
+            buffer.get(position[0], bytes);
+            position[0] += length;
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    /** Read-only list over a mapping; each get decodes one record and nothing is retained. */
+    static final class MappedEntries extends AbstractList<Dictionary> implements RandomAccess {
+        private final Mapping mapping;
+
+        private MappedEntries(Mapping mapping) {
+            this.mapping = mapping;
+        }
+
+        Mapping mapping() {
+            return mapping;
+        }
+
+        @Override
+        public Dictionary get(int index) {
+            Objects.checkIndex(index, mapping.count);
+            return mapping.decode(index);
+        }
+
+        @Override
+        public int size() {
+            return mapping.count;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.vocab.service;
+
+import com.vocab.model.Dictionary;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * "Did you mean" suggestions using a symmetric-delete index (the SymSpell approach).
+ *
+ * Every word is indexed under the variants of its first few characters with up to
+ * {@link #MAX_EDIT_DISTANCE} characters deleted. A query generates the same deletes of
+ * its own prefix, so a handful of hash lookups yield every word that could be within
+ * the edit distance; only those candidates are checked with a real distance.
+ */
+@Component
+public class DictionarySpellChecker implements DictionaryIndex {
+
+    public static final int MAX_EDIT_DISTANCE = 2;
+
+    // indexing only a prefix keeps the delete table small for long words
+    private static final int PREFIX_LENGTH = 7;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<String, String[]> deletes = new HashMap<>();
+    private Set<String> words = new HashSet<>();
+
+    @Override
+    public void rebuild(List<Dictionary> entries) {
+        Map<String, String[]> newDeletes = new HashMap<>();
+        Set<String> newWords = new HashSet<>();
+        for (Dictionary entry : entries) {
+            index(entry.getWord(), newDeletes, newWords);
+        }
+        lock.writeLock().lock();
+        try {
+            deletes = newDeletes;
+            words = newWords;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void add(Dictionary entry) {
+        if (entry == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            index(entry.getWord(), deletes, words);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to limit dictionary words within {@link #MAX_EDIT_DISTANCE} of the input,
+     * closest first. An exact match is returned on its own with distance 0.
+     */
+    public List<Suggestion> lookup(String input, int limit) {
+        if (input == null || input.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        String query = input.toLowerCase();
+        lock.readLock().lock();
+        try {
+            if (words.contains(query)) {
+                return List.of(new Suggestion(query, 0));
+            }
+            Set<String> candidates = new HashSet<>();
+            collectDeletes(prefixOf(query), candidates);
+
+            Set<String> checked = new HashSet<>();
+            List<Suggestion> found = new ArrayList<>();
+            for (String candidate : candidates) {
+                String[] matches = deletes.get(candidate);
+                if (matches == null) {
+                    continue;
+                }
+                for (String word : matches) {
+                    if (Math.abs(word.length() - query.length()) > MAX_EDIT_DISTANCE || !checked.add(word)) {
+                        continue;
+                    }
+                    int distance = distance(query, word, MAX_EDIT_DISTANCE);
+                    if (distance <= MAX_EDIT_DISTANCE) {
+                        found.add(new Suggestion(word, distance));
+                    }
+                }
+            }
+            found.sort((a, b) -> a.distance != b.distance
+                    ? Integer.compare(a.distance, b.distance)
+                    : a.word.compareTo(b.word));
+            return found.size() > limit ? new ArrayList<>(found.subList(0, limit)) : found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void index(String word, Map<String, String[]> deletes, Set<String> words) {
+        if (word == null || word.isEmpty()) {
+            return;
+        }
+        String key = word.toLowerCase();
+        if (!words.add(key)) {
+            return;
+        }
+        Set<String> variants = new HashSet<>();
+        collectDeletes(prefixOf(key), variants);
+        for (String variant : variants) {
+            String[] existing = deletes.get(variant);
+            if (existing == null) {
+                deletes.put(variant, new String[] { key });
+            } else {
+                String[] grown = Arrays.copyOf(existing, existing.length + 1);
+                grown[existing.length] = key;
+                deletes.put(variant, grown);
+            }
+        }
+    }
+
+    private static String prefixOf(String word) {
+        return word.length() > PREFIX_LENGTH ? word.substring(0, PREFIX_LENGTH) : word;
+    }
+
+    // the value itself plus every string reachable by deleting up to MAX_EDIT_DISTANCE chars
+    private static void collectDeletes(String value, Set<String> out) {
+        out.add(value);
+        collectDeletes(value, 1, out);
+    }
+
+    private static void collectDeletes(String value, int depth, Set<String> out) {
+        if (value.length() <= 1) {
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            String deleted = value.substring(0, i) + value.substring(i + 1);
+            if (out.add(deleted) && depth < MAX_EDIT_DISTANCE) {
+                collectDeletes(deleted, depth + 1, out);
+            }
+        }
+    }
+
+    /**
+     * Optimal string alignment distance (Levenshtein plus adjacent transpositions).
+     * Returns max + 1 as soon as the distance is known to exceed max.
+     */
+    static int distance(String a, String b, int max) {
+        int n = a.length();
+        int m = b.length();
+        int[] prevPrev = new int[m + 1];
+        int[] prev = new int[m + 1];
+        int[] current = new int[m + 1];
+        for (int j = 0; j <= m; j++) {
+            prev[j] = j;
+        }
+        for (int i = 1; i <= n; i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= m; j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(prev[j] + 1, current[j - 1] + 1), prev[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, prevPrev[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] recycled = prevPrev;
+            prevPrev = prev;
+            prev = current;
+            current = recycled;
+        }
+        return prev[m];
+    }
+
+    public static final class Suggestion {
+        private final String word;
+        private final int distance;
+
+        public Suggestion(String word, int distance) {
+            this.word = word;
+            this.distance = distance;
+        }
+
+        public String getWord() {
+            return word;
+        }
+
+        public int getDistance() {
+            return distance;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.vocab.service;
+
+import com.vocab.model.Dictionary;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Prefix autocomplete over the lowercase dictionary words.
+ *
+ * The trie keeps children in sorted char arrays and every node remembers the highest
+ * popularity found below it, so a search can skip whole subtrees that cannot beat the
+ * suggestions it already has. Popularity is the number of successful lookups of a word
+ * since startup; ties are broken alphabetically.
+ */
+@Component
+public class DictionarySuggester implements DictionaryIndex {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Node root = new Node();
+    private int size;
+
+    @Override
+    public void rebuild(List<Dictionary> words) {
+        Node newRoot = new Node();
+        int count = 0;
+        for (Dictionary word : words) {
+            if (insert(newRoot, word.getWord())) {
+                count++;
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            root = newRoot;
+            size = count;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void add(Dictionary word) {
+        if (word == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (insert(root, word.getWord())) {
+                size++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Bumps the popularity of a word. Counts are updated under the read lock, so
+     * concurrent bumps of the same word may occasionally be lost; they only order results.
+     */
+    public void recordLookup(String word) {
+        if (word == null || word.isEmpty()) {
+            return;
+        }
+        lock.readLock().lock();
+        try {
+            Node[] path = new Node[word.length() + 1];
+            Node node = root;
+            path[0] = node;
+            for (int i = 0; i < word.length(); i++) {
+                node = node.child(word.charAt(i));
+                if (node == null) {
+                    return;
+                }
+                path[i + 1] = node;
+            }
+            if (node.word == null) {
+                return;
+            }
+            int popularity = ++node.popularity;
+            for (Node onPath : path) {
+                if (onPath.maxPopularity < popularity) {
+                    onPath.maxPopularity = popularity;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Returns up to limit words starting with prefix, most popular first. */
+    public List<String> suggest(String prefix, int limit) {
+        if (prefix == null || limit <= 0) {
+            return Collections.emptyList();
+        }
+        String key = prefix.toLowerCase();
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            if (node == null) {
+                return Collections.emptyList();
+            }
+            // min-heap on (popularity, reverse alphabetical) holding the current best
+            PriorityQueue<Node> best = new PriorityQueue<>(limit + 1, (a, b) ->
+                    a.popularity != b.popularity
+                            ? Integer.compare(a.popularity, b.popularity)
+                            : b.word.compareTo(a.word));
+            collect(node, limit, best);
+
+            String[] result = new String[best.size()];
+            for (int i = result.length - 1; i >= 0; i--) {
+                result[i] = best.poll().word;
+            }
+            return Arrays.asList(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // children are visited alphabetically, so a later word only wins on strictly higher popularity
+    private void collect(Node node, int limit, PriorityQueue<Node> best) {
+        if (best.size() == limit && node.maxPopularity <= best.peek().popularity) {
+            return;
+        }
+        if (node.word != null) {
+            if (best.size() < limit) {
+                best.add(node);
+            } else if (node.popularity > best.peek().popularity) {
+                best.poll();
+                best.add(node);
+            }
+        }
+        for (int i = 0; i < node.size; i++) {
+            collect(node.children[i], limit, best);
+        }
+    }
+
+    private static boolean insert(Node root, String word) {
+        if (word == null || word.isEmpty()) {
+            return false;
+        }
+        String key = word.toLowerCase();
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.childOrCreate(key.charAt(i));
+        }
+        if (node.word != null) {
+            return false;
+        }
+        node.word = key;
+        return true;
+    }
+
+    private static final class Node {
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private int size;
+
+        private String word;
+        private int popularity;
+        private int maxPopularity;
+
+        private Node child(char c) {
+            int i = Arrays.binarySearch(keys, 0, size, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        private Node childOrCreate(char c) {
+            int i = Arrays.binarySearch(keys, 0, size, c);
+            if (i >= 0) {
+                return children[i];
+            }
+            int at = -i - 1;
+            if (size == keys.length) {
+                int capacity = size == 0 ? 2 : size * 2;
+                keys = Arrays.copyOf(keys, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(keys, at, keys, at + 1, size - at);
+            System.arraycopy(children, at, children, at + 1, size - at);
+            Node child = new Node();
+            keys[at] = c;
+            children[at] = child;
+            size++;
+            return child;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.vocab.service;
+
+import com.vocab.model.VocabList;
+import com.vocab.repository.VocabListRepository;
+import com.vocab.repository.WordInListRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Finishes list deletions in the background.
+ *
+ * Deleting a list only tombstones it (deletedAt), so the request returns straight away.
+ * This worker then removes the list's words a batch at a time, pausing between batches
+ * so a 50k-word list doesn't turn into one long delete, and removes the list itself
+ * once no words are left. Each list is claimed in Mongo before it is purged and the
+ * claim is extended after every batch, so instances share the backlog instead of all
+ * purging the same list, and a claim left by a stopped instance runs out and is picked
+ * up by another. Purges run on their own thread so the pauses never hold up the shared
+ * scheduler thread.
+ */
+@Component
+public class ListPurgeWorker {
+
+    @Autowired
+    private VocabListRepository vocabListRepository;
+
+    @Autowired
+    private WordInListRepository wordInListRepository;
+
+    @Value("${vocab.lists.purge.batch-size:1000}")
+    private int batchSize = 1000;
+
+    @Value("${vocab.lists.purge.pause-ms:100}")
+    private long pauseMillis = 100;
+
+    @Value("${vocab.lists.purge.claim-ms:60000}")
+    private long claimMillis = 60000;
+
+    private final String owner = UUID.randomUUID().toString();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "list-purge");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // hands the pass to the purge thread; a tick that finds the previous pass still going is skipped
+    @Scheduled(fixedDelayString = "${vocab.lists.purge.interval-ms:5000}")
+    public void purgeDeletedLists() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    purgeClaimedLists();
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+        }
+    }
+
+    /** Claims and purges tombstoned lists until none are left unclaimed, and returns how many were purged. */
+    public int purgeClaimedLists() {
+        int purged = 0;
+        try {
+            VocabList list;
+            while ((list = vocabListRepository.claimForPurge(owner, claim())) != null) {
+                if (purge(list.getId())) {
+                    purged++;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            System.err.println("⚠️ List purge failed: " + e.getMessage());
+        }
+        return purged;
+    }
+
+    /**
+     * Removes every word in a claimed, tombstoned list, then the list. Returns false,
+     * leaving the rest to the new holder, if another instance took the claim over.
+     */
+    public boolean purge(String listId) throws InterruptedException {
+        long removed = 0;
+        long deleted;
+        while ((deleted = wordInListRepository.deleteBatchByListId(listId, batchSize)) > 0) {
+            removed += deleted;
+            if (!vocabListRepository.extendPurgeClaim(listId, owner, claim())) {
+                System.err.println("⚠️ Lost the purge claim on list " + listId + " after " + removed + " words");
+                return false;
+            }
+            if (pauseMillis > 0) {
+                Thread.sleep(pauseMillis);
+            }
+        }
+        vocabListRepository.deleteById(listId);
+        System.out.println(" Purged list " + listId + " (" + removed + " words)");
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Duration claim() {
+        return Duration.ofMillis(claimMillis);
+    }
+}
@@ -0,0 +1,341 @@
+package com.vocab.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory token buckets that cap password and security-answer attempts per email and
+ * per client IP, so a credential-stuffing burst is turned away before it costs a Mongo
+ * lookup or a BCrypt verification.
+ *
+ * Buckets live in a fixed number of access-ordered segments, each behind its own lock.
+ * A segment drops buckets that have been idle long enough to have refilled, and evicts
+ * its least recently used bucket once it is full, so memory stays bounded no matter how
+ * many distinct emails or addresses are tried. Evicting a bucket that hasn't refilled
+ * would hand its key a full bucket again, so the segment remembers, per slot of a small
+ * hash table, when the evicted bucket would have been full; a key that comes back before
+ * then starts that far from full. Keys sharing a slot can start emptier than they should,
+ * but never for longer than one refill period.
+ *
+ * Behind a load balancer every request arrives from the balancer's address, so the IP
+ * bucket is keyed on the address {@link #clientIp resolved} from X-Forwarded-For, walking
+ * back from the connection over the hops listed in vocab.auth.throttle.trusted-proxies.
+ * Entries further left than the first untrusted hop are client-supplied and ignored.
+ */
+@Component
+public class LoginThrottle {
+
+    private static final int SEGMENTS = 32;
+    private static final int EVICTED_SLOTS = 256;
+
+    @Value("${vocab.auth.throttle.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${vocab.auth.throttle.email.capacity:5}")
+    private int emailCapacity = 5;
+
+    @Value("${vocab.auth.throttle.email.refill-per-minute:5}")
+    private int emailRefillPerMinute = 5;
+
+    @Value("${vocab.auth.throttle.ip.capacity:30}")
+    private int ipCapacity = 30;
+
+    @Value("${vocab.auth.throttle.ip.refill-per-minute:30}")
+    private int ipRefillPerMinute = 30;
+
+    @Value("${vocab.auth.throttle.max-buckets:100000}")
+    private int maxBuckets = 100000;
+
+    // addresses or CIDR blocks of the proxies allowed to report the client in X-Forwarded-For
+    @Value("${vocab.auth.throttle.trusted-proxies:}")
+    private List<String> trustedProxies = List.of();
+
+    private volatile List<AddressBlock> trustedBlocks;
+
+    private final Segment[] emailSegments = new Segment[SEGMENTS];
+    private final Segment[] ipSegments = new Segment[SEGMENTS];
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejectedByEmail = new LongAdder();
+    private final LongAdder rejectedByIp = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder evictedBeforeRefill = new LongAdder();
+
+    public LoginThrottle() {
+        for (int i = 0; i < SEGMENTS; i++) {
+            emailSegments[i] = new Segment();
+            ipSegments[i] = new Segment();
+        }
+    }
+
+    /**
+     * Takes one attempt from the IP's bucket and then from the email's. Returns 0 if the
+     * attempt may go ahead, otherwise the milliseconds until the emptier bucket has a
+     * token again.
+     */
+    public long tryAcquire(String email, String clientIp) {
+        if (!enabled) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        if (clientIp != null) {
+            long wait = take(ipSegments, clientIp, ipCapacity, ipRefillPerMinute, now);
+            if (wait > 0) {
+                rejectedByIp.increment();
+                return wait;
+            }
+        }
+        if (email != null) {
+            long wait = take(emailSegments, email.trim().toLowerCase(), emailCapacity, emailRefillPerMinute, now);
+            if (wait > 0) {
+                rejectedByEmail.increment();
+                return wait;
+            }
+        }
+        allowed.increment();
+        return 0;
+    }
+
+    /**
+     * The address to throttle a request on: the connection's address, or, when that is a
+     * trusted proxy, the nearest X-Forwarded-For hop that isn't one.
+     */
+    public String clientIp(String remoteAddr, String forwardedFor) {
+        if (remoteAddr == null || forwardedFor == null || !isTrustedProxy(remoteAddr)) {
+            return remoteAddr;
+        }
+        String client = remoteAddr;
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (hop.isEmpty()) {
+                continue;
+            }
+            client = hop;
+            if (!isTrustedProxy(hop)) {
+                break;
+            }
+        }
+        return client;
+    }
+
+    private boolean isTrustedProxy(String address) {
+        byte[] bytes = parseAddress(address);
+        if (bytes == null) {
+            return false;
+        }
+        for (AddressBlock block : trustedBlocks()) {
+            if (block.contains(bytes)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<AddressBlock> trustedBlocks() {
+        List<AddressBlock> blocks = trustedBlocks;
+        if (blocks == null) {
+            blocks = new ArrayList<>();
+            for (String proxy : trustedProxies) {
+                AddressBlock block = AddressBlock.parse(proxy.trim());
+                if (block == null) {
+                    System.err.println("⚠️ Ignoring trusted proxy that is not an address or CIDR block: " + proxy);
+                } else {
+                    blocks.add(block);
+                }
+            }
+            trustedBlocks = blocks;
+        }
+        return blocks;
+    }
+
+    // only IP literals are parsed, so a forged header can never trigger a DNS lookup
+    private static byte[] parseAddress(String address) {
+        if (address.isEmpty() || !address.matches("[0-9A-Fa-f:.]+")
+                || (address.indexOf('.') < 0 && address.indexOf(':') < 0)) {
+            return null;
+        }
+        try {
+            return InetAddress.getByName(address).getAddress();
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < SEGMENTS; i++) {
+            synchronized (emailSegments[i]) {
+                size += emailSegments[i].size();
+            }
+            synchronized (ipSegments[i]) {
+                size += ipSegments[i].size();
+            }
+        }
+        return size;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("buckets", size());
+        stats.put("maxBuckets", maxBuckets);
+        stats.put("allowed", allowed.sum());
+        stats.put("rejectedByEmail", rejectedByEmail.sum());
+        stats.put("rejectedByIp", rejectedByIp.sum());
+        stats.put("evictions", evictions.sum());
+        stats.put("evictedBeforeRefill", evictedBeforeRefill.sum());
+        return stats;
+    }
+
+    private long take(Segment[] segments, String key, int capacity, int refillPerMinute, long now) {
+        double nanosPerToken = 60_000_000_000.0 / Math.max(refillPerMinute, 1);
+        Segment segment = segmentFor(segments, key);
+        synchronized (segment) {
+            segment.dropIdle(now, (long) (nanosPerToken * capacity));
+            Bucket bucket = segment.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(segment.tokensAfterEviction(key, capacity, nanosPerToken, now), now);
+                segment.put(key, bucket);
+            }
+            bucket.tokens = Math.min(capacity, bucket.tokens + (now - bucket.updatedAt) / nanosPerToken);
+            bucket.updatedAt = now;
+            long wait = 0;
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+            } else {
+                wait = Math.max(1, (long) Math.ceil((1 - bucket.tokens) * nanosPerToken / 1_000_000));
+            }
+            bucket.fullAt = now + (long) ((capacity - bucket.tokens) * nanosPerToken);
+            return wait;
+        }
+    }
+
+    private static Segment segmentFor(Segment[] segments, String key) {
+        int h = key.hashCode();
+        return segments[(h ^ (h >>> 16)) & (SEGMENTS - 1)];
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long updatedAt;
+        private long fullAt; //when the bucket will have refilled if left alone
+
+        private Bucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.updatedAt = now;
+            this.fullAt = now;
+        }
+    }
+
+    private final class Segment extends LinkedHashMap<String, Bucket> {
+
+        // 0 = nothing evicted into the slot, otherwise the latest fullAt evicted into it
+        private final long[] evictedFullAt = new long[EVICTED_SLOTS];
+        private long currentTime; //time of the put in progress, read by removeEldestEntry
+
+        private Segment() {
+            super(64, 0.75f, true);
+        }
+
+        private double tokensAfterEviction(String key, int capacity, double nanosPerToken, long now) {
+            currentTime = now;
+            long fullAt = evictedFullAt[slotFor(key)];
+            if (fullAt == 0 || fullAt - now <= 0) {
+                return capacity;
+            }
+            return Math.max(0, capacity - (fullAt - now) / nanosPerToken);
+        }
+
+        // a bucket left alone long enough to refill is the same as no bucket at all
+        private void dropIdle(long now, long refillNanos) {
+            Iterator<Bucket> buckets = values().iterator();
+            while (buckets.hasNext()) {
+                if (now - buckets.next().updatedAt < refillNanos) {
+                    break;
+                }
+                buckets.remove();
+            }
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+            if (size() <= Math.max(1, maxBuckets / (2 * SEGMENTS))) {
+                return false;
+            }
+            evictions.increment();
+            long fullAt = eldest.getValue().fullAt;
+            if (fullAt - currentTime > 0) {
+                int slot = slotFor(eldest.getKey());
+                long previous = evictedFullAt[slot];
+                if (previous == 0 || fullAt - previous > 0) {
+                    evictedFullAt[slot] = fullAt == 0 ? 1 : fullAt;
+                }
+                evictedBeforeRefill.increment();
+            }
+            return true;
+        }
+
+        // mixed differently from segmentFor, so keys in one segment spread over the slots
+        private int slotFor(String key) {
+            return (key.hashCode() * 0x9E3779B9) >>> (32 - Integer.numberOfTrailingZeros(EVICTED_SLOTS));
+        }
+    }
+
+    private static final class AddressBlock {
+        private final byte[] network;
+        private final int prefixBits;
+
+        private AddressBlock(byte[] network, int prefixBits) {
+            this.network = network;
+            this.prefixBits = prefixBits;
+        }
+
+        static AddressBlock parse(String block) {
+            int slash = block.indexOf('/');
+            byte[] network = parseAddress(slash < 0 ? block : block.substring(0, slash));
+            if (network == null) {
+                return null;
+            }
+            int prefixBits = network.length * 8;
+            if (slash >= 0) {
+                try {
+                    prefixBits = Integer.parseInt(block.substring(slash + 1));
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+                if (prefixBits < 0 || prefixBits > network.length * 8) {
+                    return null;
+                }
+            }
+            return new AddressBlock(network, prefixBits);
+        }
+
+        boolean contains(byte[] address) {
+            if (address.length != network.length) {
+                return false;
+            }
+            int full = prefixBits / 8;
+            for (int i = 0; i < full; i++) {
+                if (address[i] != network[i]) {
+                    return false;
+                }
+            }
+            int rest = prefixBits % 8;
+            if (rest == 0) {
+                return true;
+            }
+            int mask = 0xff << (8 - rest);
+            return (address[full] & mask) == (network[full] & mask);
+        }
+    }
+}
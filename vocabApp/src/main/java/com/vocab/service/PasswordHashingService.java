@@ -0,0 +1,261 @@
+package com.vocab.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs BCrypt on its own fixed pool so password hashing can't tie up the request threads.
+ *
+ * The pool has one thread per core and a bounded queue. When the queue is full the task
+ * is refused straight away and the returned future fails with a
+ * {@link RejectedExecutionException}, which callers turn into a 503 instead of letting
+ * logins pile up behind each other.
+ *
+ * The BCrypt strength is either fixed by vocab.auth.hashing.strength or, when that is 0,
+ * picked before the server starts taking requests by timing a cheap hash on this host and
+ * taking the highest strength whose verification still fits in
+ * vocab.auth.hashing.target-millis. Weaker hashes are redone after a successful login (see
+ * {@link #rehashIfNeeded}). A calibrated strength belongs to one host, so hashes are only
+ * ever raised to it; otherwise instances on different hardware would keep rehashing each
+ * other's users back and forth. Lowering a hash needs a fixed strength, which every
+ * instance shares, and a gap of at least vocab.auth.hashing.downgrade-margin steps.
+ */
+@Component
+public class PasswordHashingService {
+
+    public static final int DEFAULT_STRENGTH = 10;
+
+    // cheap enough to time in a few milliseconds; each step up doubles the cost
+    private static final int CALIBRATION_STRENGTH = 8;
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    @Value("${vocab.auth.hashing.strength:0}")
+    private int configuredStrength = 0;
+
+    @Value("${vocab.auth.hashing.target-millis:250}")
+    private long targetMillis = 250;
+
+    @Value("${vocab.auth.hashing.min-strength:10}")
+    private int minStrength = 10;
+
+    @Value("${vocab.auth.hashing.max-strength:14}")
+    private int maxStrength = 14;
+
+    @Value("${vocab.auth.hashing.downgrade-margin:2}")
+    private int downgradeMargin = 2;
+
+    @Value("${vocab.auth.hashing.threads:0}")
+    private int threads = 0;
+
+    @Value("${vocab.auth.hashing.queue-capacity:64}")
+    private int queueCapacity = 64;
+
+    private volatile int strength = DEFAULT_STRENGTH;
+    private volatile BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(DEFAULT_STRENGTH);
+
+    private final LongAdder rehashed = new LongAdder();
+    private final LongAdder rehashSkipped = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final AtomicLong maxHashNanos = new AtomicLong();
+
+    private volatile ThreadPoolExecutor executor;
+
+    // during bean initialization, so the web server never serves a login at the default strength
+    @PostConstruct
+    public void calibrate() {
+        if (configuredStrength > 0) {
+            useStrength(configuredStrength);
+            System.out.println(" Password hashing strength fixed at " + strength);
+            return;
+        }
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(CALIBRATION_STRENGTH);
+        String hash = probe.encode(CALIBRATION_PASSWORD); // also warms up the JIT
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            probe.matches(CALIBRATION_PASSWORD, hash);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        useStrength(strengthFor(best / 1e6, targetMillis, minStrength, maxStrength));
+        System.out.println(" Password hashing strength calibrated to " + strength + " (strength "
+                + CALIBRATION_STRENGTH + " took " + String.format("%.2f", best / 1e6) + " ms)");
+    }
+
+    /** Highest strength in [min, max] whose estimated verification time fits the target. */
+    static int strengthFor(double millisAtCalibration, long targetMillis, int min, int max) {
+        int chosen = min;
+        while (chosen < max
+                && millisAtCalibration * Math.pow(2, chosen + 1 - CALIBRATION_STRENGTH) <= targetMillis) {
+            chosen++;
+        }
+        return chosen;
+    }
+
+    void useStrength(int newStrength) {
+        int bounded = Math.min(Math.max(newStrength, 4), 31);
+        passwordEncoder = new BCryptPasswordEncoder(bounded);
+        strength = bounded;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        BCryptPasswordEncoder encoder = passwordEncoder;
+        return submit(() -> encoder.encode(rawPassword));
+    }
+
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        BCryptPasswordEncoder encoder = passwordEncoder;
+        return submit(() -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * True for a BCrypt hash weaker than the current strength, or, when the strength is
+     * fixed for the whole fleet, at least downgrade-margin steps stronger than it.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        int cost = costOf(encodedPassword);
+        if (cost <= 0) {
+            return false;
+        }
+        int current = strength;
+        return cost < current || (configuredStrength > 0 && cost - current >= Math.max(downgradeMargin, 1));
+    }
+
+    /**
+     * Hashes an already verified password again at the current strength. Completes with
+     * null when the hash is already current, or when the pool is busy enough that the
+     * upgrade should wait for a quieter login rather than compete with real requests.
+     */
+    public CompletableFuture<String> rehashIfNeeded(String rawPassword, String encodedPassword) {
+        if (!needsRehash(encodedPassword)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (executor().getQueue().size() * 2 >= queueCapacity) {
+            rehashSkipped.increment();
+            return CompletableFuture.completedFuture(null);
+        }
+        return encode(rawPassword).whenComplete((hash, error) -> {
+            if (error == null) {
+                rehashed.increment();
+            }
+        });
+    }
+
+    // "$2a$10$..." -> 10, or -1 if this isn't a BCrypt hash
+    static int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$'
+                || encodedPassword.charAt(3) != '$' || encodedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /** True if the failure came from a full queue rather than from the hash itself. */
+    public static boolean isSaturated(Throwable error) {
+        Throwable cause = error;
+        while (cause != null) {
+            if (cause instanceof RejectedExecutionException) {
+                return true;
+            }
+            cause = cause.getCause();
+        }
+        return false;
+    }
+
+    <T> CompletableFuture<T> submit(Supplier<T> task) {
+        long queuedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                long startedAt = System.nanoTime();
+                queueWaitNanos.add(startedAt - queuedAt);
+                try {
+                    return task.get();
+                } finally {
+                    long elapsed = System.nanoTime() - startedAt;
+                    hashNanos.add(elapsed);
+                    maxHashNanos.accumulateAndGet(elapsed, Math::max);
+                    completed.increment();
+                }
+            }, executor());
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    public Map<String, Object> stats() {
+        ThreadPoolExecutor pool = executor();
+        long done = completed.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("strength", strength);
+        stats.put("threads", pool.getMaximumPoolSize());
+        stats.put("active", pool.getActiveCount());
+        stats.put("queued", pool.getQueue().size());
+        stats.put("queueCapacity", queueCapacity);
+        stats.put("completed", done);
+        stats.put("rejected", rejected.sum());
+        stats.put("rehashed", rehashed.sum());
+        stats.put("rehashSkipped", rehashSkipped.sum());
+        stats.put("avgQueueWaitMillis", done == 0 ? 0.0 : queueWaitNanos.sum() / 1e6 / done);
+        stats.put("avgHashMillis", done == 0 ? 0.0 : hashNanos.sum() / 1e6 / done);
+        stats.put("maxHashMillis", maxHashNanos.get() / 1e6);
+        return stats;
+    }
+
+    // built on first use so the @Value sizes are in place (and so tests can new this up)
+    private ThreadPoolExecutor executor() {
+        ThreadPoolExecutor current = executor;
+        if (current == null) {
+            synchronized (this) {
+                current = executor;
+                if (current == null) {
+                    int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+                    AtomicInteger count = new AtomicInteger();
+                    current = new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                            new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)),
+                            runnable -> {
+                                Thread thread = new Thread(runnable, "password-hash-" + count.incrementAndGet());
+                                thread.setDaemon(true);
+                                return thread;
+                            },
+                            new ThreadPoolExecutor.AbortPolicy());
+                    executor = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ThreadPoolExecutor current = executor;
+        if (current != null) {
+            current.shutdown();
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.vocab.service;
+
+import com.vocab.model.Dictionary;
+import com.vocab.model.WordInList;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Builds multiple-choice definition quizzes from in-memory dictionary buckets.
+ *
+ * Entries with a definition are bucketed by part of speech and by category. Distractors
+ * for a word are drawn at random from its own part-of-speech bucket first, then its
+ * category, then the whole dictionary, so wrong answers read like plausible definitions.
+ * Picks are checked against the few choices already taken instead of building a set, and
+ * no Mongo query is made. Buckets hold {@link DictionaryRefs} handles, so entries from the
+ * mapped snapshot are decoded only when picked.
+ */
+@Component
+public class QuizGenerator implements DictionaryIndex {
+
+    public static final int MIN_CHOICES = 2;
+    public static final int MAX_CHOICES = 6;
+
+    // random picks per missing distractor before falling back to a wider bucket
+    private static final int ATTEMPTS_PER_CHOICE = 8;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Buckets buckets = new Buckets();
+
+    @Override
+    public void rebuild(List<Dictionary> words) {
+        Buckets newBuckets = new Buckets(new DictionaryRefs(words));
+        for (int i = 0; i < words.size(); i++) {
+            newBuckets.add(words.get(i), i);
+        }
+        lock.writeLock().lock();
+        try {
+            buckets = newBuckets;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void add(Dictionary word) {
+        if (word == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            buckets.add(word, -1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns one question per word that has a definition, each with the correct
+     * definition and up to choices - 1 distinct distractors in random order.
+     */
+    public List<Question> generate(List<WordInList> words, int choices) {
+        int count = Math.min(Math.max(choices, MIN_CHOICES), MAX_CHOICES);
+        List<Question> questions = new ArrayList<>(words.size());
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        lock.readLock().lock();
+        try {
+            Buckets current = buckets;
+            for (WordInList word : words) {
+                String key = normalize(word.getWord());
+                Integer ref = key == null ? null : current.byWord.get(key);
+                Dictionary entry = ref == null ? null : current.refs.get(ref);
+                String answer = word.getDefinition() != null && !word.getDefinition().isBlank()
+                        ? word.getDefinition()
+                        : entry == null ? null : entry.getShortdef();
+                if (answer == null) {
+                    continue;
+                }
+                String partOfSpeech = entry != null && entry.getPartOfSpeech() != null
+                        ? entry.getPartOfSpeech()
+                        : word.getCategories();
+
+                String[] picked = new String[count];
+                picked[0] = answer;
+                int filled = 1;
+                filled = fill(current, current.byPartOfSpeech.get(normalize(partOfSpeech)), key, picked, filled, random);
+                if (entry != null) {
+                    filled = fill(current, current.byCategory.get(normalize(entry.getCategory())), key, picked, filled,
+                            random);
+                }
+                filled = fill(current, current.all, key, picked, filled, random);
+                if (filled < MIN_CHOICES) {
+                    continue;
+                }
+
+                int answerIndex = random.nextInt(filled);
+                picked[0] = picked[answerIndex];
+                picked[answerIndex] = answer;
+                questions.add(new Question(word.getId(), word.getWord(), partOfSpeech,
+                        Arrays.asList(Arrays.copyOf(picked, filled)), answerIndex));
+            }
+            return questions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // adds random definitions from the bucket until picked is full or the attempts run out
+    private static int fill(Buckets buckets, Bucket bucket, String exclude, String[] picked, int filled,
+                            ThreadLocalRandom random) {
+        if (bucket == null || bucket.size == 0) {
+            return filled;
+        }
+        int attempts = (picked.length - filled) * ATTEMPTS_PER_CHOICE;
+        while (filled < picked.length && attempts-- > 0) {
+            Dictionary candidate = buckets.refs.get(bucket.refs[random.nextInt(bucket.size)]);
+            if (exclude != null && exclude.equals(normalize(candidate.getWord()))
+                    || contains(picked, filled, candidate.getShortdef())) {
+                continue;
+            }
+            picked[filled++] = candidate.getShortdef();
+        }
+        return filled;
+    }
+
+    private static boolean contains(String[] picked, int filled, String definition) {
+        for (int i = 0; i < filled; i++) {
+            if (picked[i].equalsIgnoreCase(definition)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String normalize(String value) {
+        return value == null || value.isBlank() ? null : value.trim().toLowerCase();
+    }
+
+    public static final class Question {
+        private final String wordId;
+        private final String word;
+        private final String partOfSpeech;
+        private final List<String> choices;
+        private final int answerIndex;
+
+        private Question(String wordId, String word, String partOfSpeech, List<String> choices, int answerIndex) {
+            this.wordId = wordId;
+            this.word = word;
+            this.partOfSpeech = partOfSpeech;
+            this.choices = choices;
+            this.answerIndex = answerIndex;
+        }
+
+        public String getWordId() {
+            return wordId;
+        }
+
+        public String getWord() {
+            return word;
+        }
+
+        public String getPartOfSpeech() {
+            return partOfSpeech;
+        }
+
+        public List<String> getChoices() {
+            return choices;
+        }
+
+        public int getAnswerIndex() {
+            return answerIndex;
+        }
+    }
+
+    private static final class Buckets {
+        private final DictionaryRefs refs;
+        private final Map<String, Integer> byWord = new HashMap<>();
+        private final Map<String, Bucket> byPartOfSpeech = new HashMap<>();
+        private final Map<String, Bucket> byCategory = new HashMap<>();
+        private final Bucket all = new Bucket();
+
+        private Buckets() {
+            this(new DictionaryRefs());
+        }
+
+        private Buckets(DictionaryRefs refs) {
+            this.refs = refs;
+        }
+
+        // index is the entry's position in the rebuild list, or -1 for a word added later
+        private void add(Dictionary entry, int index) {
+            String word = normalize(entry.getWord());
+            if (word == null || entry.getShortdef() == null || entry.getShortdef().isBlank()
+                    || byWord.containsKey(word)) {
+                return;
+            }
+            int ref = index >= 0 ? refs.refAt(index, entry) : refs.add(entry);
+            byWord.put(word, ref);
+            all.add(ref);
+            String partOfSpeech = normalize(entry.getPartOfSpeech());
+            if (partOfSpeech != null) {
+                byPartOfSpeech.computeIfAbsent(partOfSpeech, key -> new Bucket()).add(ref);
+            }
+            String category = normalize(entry.getCategory());
+            if (category != null) {
+                byCategory.computeIfAbsent(category, key -> new Bucket()).add(ref);
+            }
+        }
+    }
+
+    private static final class Bucket {
+        private int[] refs = new int[4];
+        private int size;
+
+        private void add(int ref) {
+            if (size == refs.length) {
+                refs = Arrays.copyOf(refs, size * 2);
+            }
+            refs[size++] = ref;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.vocab.service;
+
+import com.vocab.model.Dictionary;
+import com.vocab.model.User;
+import com.vocab.model.VocabList;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight groups for the hottest repository reads, so a burst of identical
+ * requests costs one Mongo query instead of one per request.
+ */
+@Component
+public class RepositoryReadCoalescer {
+
+    private final SingleFlight<String, Dictionary> wordLookups = new SingleFlight<>();
+    private final SingleFlight<String, Optional<User>> userLookups = new SingleFlight<>();
+    private final SingleFlight<String, List<VocabList>> listLookups = new SingleFlight<>();
+
+    public Dictionary findWord(String word, Supplier<Dictionary> loader) {
+        return wordLookups.execute(word, loader);
+    }
+
+    /** Callers share the same User instance, so only use this on read-only paths. */
+    public Optional<User> findUserByEmail(String email, Supplier<Optional<User>> loader) {
+        return userLookups.execute(email, loader);
+    }
+
+    /** Each caller gets its own copy of the list, so it may be filtered in place. */
+    public List<VocabList> findListsByUser(String userId, Supplier<List<VocabList>> loader) {
+        return new ArrayList<>(listLookups.execute(userId, loader));
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("dictionaryByWord", wordLookups.stats());
+        stats.put("userByEmail", userLookups.stats());
+        stats.put("listsByUser", listLookups.stats());
+        return stats;
+    }
+}
@@ -0,0 +1,61 @@
+package com.vocab.service;
+
+import com.vocab.model.WordInList;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * SM-2 spaced-repetition scheduling for saved words.
+ *
+ * A grade runs from 0 (forgot completely) to 5 (perfect recall). Anything below 3 sends
+ * the word back to a one-day interval; otherwise the interval grows 1 day, 6 days, then
+ * by the word's ease factor, which itself moves with each grade and never drops below 1.3.
+ */
+@Component
+public class ReviewScheduler {
+
+    public static final int MIN_GRADE = 0;
+    public static final int MAX_GRADE = 5;
+
+    public static final double INITIAL_EASE = 2.5;
+
+    private static final double MIN_EASE = 1.3;
+
+    /** Puts a word that is about to be saved at the start of its schedule: due now, never reviewed. */
+    public static void start(WordInList word, LocalDateTime now) {
+        word.setEaseFactor(INITIAL_EASE);
+        word.setIntervalDays(0);
+        word.setRepetitions(0);
+        word.setDueAt(now);
+        word.setLastReviewedAt(null);
+    }
+
+    /** Applies one grade to the word's scheduling fields. */
+    public void review(WordInList word, int grade, LocalDateTime now) {
+        if (grade < MIN_GRADE || grade > MAX_GRADE) {
+            throw new IllegalArgumentException("Grade must be between " + MIN_GRADE + " and " + MAX_GRADE);
+        }
+        int interval;
+        if (grade < 3) {
+            word.setRepetitions(0);
+            interval = 1;
+        } else {
+            int repetitions = word.getRepetitions() + 1;
+            word.setRepetitions(repetitions);
+            if (repetitions == 1) {
+                interval = 1;
+            } else if (repetitions == 2) {
+                interval = 6;
+            } else {
+                interval = (int) Math.round(Math.max(word.getIntervalDays(), 1) * word.getEaseFactor());
+            }
+        }
+        int miss = MAX_GRADE - grade;
+        double ease = word.getEaseFactor() + 0.1 - miss * (0.08 + miss * 0.02);
+        word.setEaseFactor(Math.max(MIN_EASE, ease));
+        word.setIntervalDays(interval);
+        word.setLastReviewedAt(now);
+        word.setDueAt(now.plusDays(interval));
+    }
+}
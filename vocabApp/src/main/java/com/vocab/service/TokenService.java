@@ -0,0 +1,162 @@
+package com.vocab.service;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Issues and checks HMAC-SHA256 signed access and refresh tokens.
+ *
+ * A token is base64url("type|userId|expiresAt|tokenVersion") + "." + base64url(signature).
+ * Checking an access token needs only the shared secret, so any instance can authenticate
+ * any request without a session store. A refresh token also carries the user's token
+ * version, which the refresh endpoint compares with the stored one, so bumping the version
+ * (as a password reset does) revokes every refresh token issued before it. Every instance
+ * must be given the same vocab.auth.token.secret of at least {@value #MIN_SECRET_BYTES}
+ * bytes; without one a random key is generated and tokens stop working on restart.
+ */
+@Component
+public class TokenService {
+
+    public static final String TYPE_ACCESS = "access";
+    public static final String TYPE_REFRESH = "refresh";
+
+    public static final int MIN_SECRET_BYTES = 32;
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    @Value("${vocab.auth.token.secret:}")
+    private String secret = "";
+
+    @Value("${vocab.auth.token.access-ttl-seconds:900}")
+    private long accessTtlSeconds = 900;
+
+    @Value("${vocab.auth.token.refresh-ttl-seconds:2592000}")
+    private long refreshTtlSeconds = 2592000;
+
+    private volatile SecretKeySpec key;
+
+    /** The user id and token version a valid refresh token was issued for. */
+    public record RefreshToken(String userId, long tokenVersion) {
+    }
+
+    // a bad secret should stop startup, not fail the first login
+    @PostConstruct
+    public void checkSecret() {
+        key();
+    }
+
+    /** A fresh access/refresh pair for a user, shaped for the login and refresh responses. */
+    public Map<String, Object> issue(String userId, long tokenVersion) {
+        long now = Instant.now().getEpochSecond();
+        Map<String, Object> tokens = new LinkedHashMap<>();
+        tokens.put("accessToken", sign(TYPE_ACCESS, userId, now + accessTtlSeconds, tokenVersion));
+        tokens.put("refreshToken", sign(TYPE_REFRESH, userId, now + refreshTtlSeconds, tokenVersion));
+        tokens.put("tokenType", "Bearer");
+        tokens.put("expiresIn", accessTtlSeconds);
+        return tokens;
+    }
+
+    /** Returns the user id of a valid, unexpired access token, or null. */
+    public String verifyAccessToken(String token) {
+        String[] claims = verify(token, TYPE_ACCESS);
+        return claims == null ? null : claims[1];
+    }
+
+    /**
+     * Returns the claims of a valid, unexpired refresh token, or null. The caller still has
+     * to check the token version against the user's current one.
+     */
+    public RefreshToken verifyRefreshToken(String token) {
+        String[] claims = verify(token, TYPE_REFRESH);
+        return claims == null ? null : new RefreshToken(claims[1], Long.parseLong(claims[3]));
+    }
+
+    String sign(String type, String userId, long expiresAt, long tokenVersion) {
+        byte[] payload = (type + "|" + userId + "|" + expiresAt + "|" + tokenVersion).getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(mac(payload));
+    }
+
+    // the payload's fields once signature, type and expiry have been checked, or null
+    private String[] verify(String token, String type) {
+        if (token == null) {
+            return null;
+        }
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot != token.lastIndexOf('.')) {
+            return null;
+        }
+        byte[] payload;
+        byte[] signature;
+        try {
+            payload = DECODER.decode(token.substring(0, dot));
+            signature = DECODER.decode(token.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (!MessageDigest.isEqual(mac(payload), signature)) {
+            return null;
+        }
+        String[] parts = new String(payload, StandardCharsets.UTF_8).split("\\|");
+        if (parts.length != 4 || !parts[0].equals(type) || parts[1].isEmpty()) {
+            return null;
+        }
+        try {
+            Long.parseLong(parts[3]);
+            return Long.parseLong(parts[2]) > Instant.now().getEpochSecond() ? parts : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // Mac instances aren't thread-safe and are cheap to create next to the hash itself
+    private byte[] mac(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key());
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not sign token", e);
+        }
+    }
+
+    private SecretKeySpec key() {
+        SecretKeySpec current = key;
+        if (current == null) {
+            synchronized (this) {
+                current = key;
+                if (current == null) {
+                    byte[] bytes;
+                    if (secret == null || secret.isBlank()) {
+                        bytes = new byte[32];
+                        new SecureRandom().nextBytes(bytes);
+                        System.err.println("⚠️ vocab.auth.token.secret is not set; using a random key, "
+                                + "so tokens will not survive a restart or work across instances");
+                    } else {
+                        bytes = secret.getBytes(StandardCharsets.UTF_8);
+                        if (bytes.length < MIN_SECRET_BYTES) {
+                            throw new IllegalStateException("vocab.auth.token.secret must be at least "
+                                    + MIN_SECRET_BYTES + " bytes, got " + bytes.length);
+                        }
+                    }
+                    current = new SecretKeySpec(bytes, ALGORITHM);
+                    key = current;
+                }
+            }
+        }
+        return current;
+    }
+}
@@ -0,0 +1,125 @@
+package com.vocab.service;
+
+import com.vocab.model.VocabList;
+import com.vocab.repository.JobLeaseRepository;
+import com.vocab.repository.ListWordCount;
+import com.vocab.repository.VocabListRepository;
+import com.vocab.repository.WordInListRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Repairs drift in the wordCount and lastAddedAt fields on {@link VocabList}.
+ *
+ * Those fields are maintained with $inc alongside every word write, so a crash between
+ * the two writes, or words deleted outside the API, can leave them off. This job walks
+ * the lists a page at a time in _id order, counts each page's words with one aggregation
+ * and fixes the lists that differ with one bulk write. Each fix only applies if the list
+ * still holds the counters that were read, so a word added meanwhile is never overwritten
+ * with an older count; a word whose $inc lands between the count and the fix can still be
+ * off by one until the next pass. A lease in Mongo keeps the job to one instance at a time.
+ */
+@Component
+public class VocabListCountReconciler {
+
+    static final String LEASE = "vocab-list-count-reconcile";
+
+    @Autowired
+    private WordInListRepository wordInListRepository;
+
+    @Autowired
+    private VocabListRepository vocabListRepository;
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    @Value("${vocab.lists.reconcile.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${vocab.lists.reconcile.page-size:500}")
+    private int pageSize = 500;
+
+    @Value("${vocab.lists.reconcile.lease-ms:600000}")
+    private long leaseMillis = 600000;
+
+    private final String owner = UUID.randomUUID().toString();
+
+    @Scheduled(initialDelayString = "${vocab.lists.reconcile.initial-delay-ms:60000}",
+            fixedDelayString = "${vocab.lists.reconcile.interval-ms:3600000}")
+    public void scheduledReconcile() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            reconcile();
+        } catch (Exception e) {
+            System.err.println("⚠️ List word count reconciliation failed: " + e.getMessage());
+        }
+    }
+
+    /** Returns the number of lists whose counters were corrected, 0 if another instance holds the lease. */
+    public int reconcile() {
+        Duration lease = Duration.ofMillis(leaseMillis);
+        if (!jobLeaseRepository.tryAcquire(LEASE, owner, lease)) {
+            return 0;
+        }
+        try {
+            int fixed = 0;
+            String afterId = null;
+            List<VocabList> page;
+            do {
+                page = vocabListRepository.findCountsPage(afterId, pageSize);
+                if (page.isEmpty()) {
+                    break;
+                }
+                fixed += reconcilePage(page);
+                afterId = page.get(page.size() - 1).getId();
+                // renewing between pages lets a long pass outlive one lease period
+                if (!jobLeaseRepository.tryAcquire(LEASE, owner, lease)) {
+                    System.err.println("⚠️ Lost the list word count lease; stopping after " + fixed + " fixes");
+                    break;
+                }
+            } while (page.size() == pageSize);
+            if (fixed > 0) {
+                System.out.println(" Reconciled word counts on " + fixed + " lists");
+            }
+            return fixed;
+        } finally {
+            jobLeaseRepository.release(LEASE, owner);
+        }
+    }
+
+    private int reconcilePage(List<VocabList> page) {
+        List<String> listIds = new ArrayList<>(page.size());
+        for (VocabList list : page) {
+            listIds.add(list.getId());
+        }
+        Map<String, ListWordCount> actual = new HashMap<>();
+        for (ListWordCount count : wordInListRepository.countWordsByList(listIds)) {
+            actual.put(count.getListId(), count);
+        }
+        List<VocabList> observed = new ArrayList<>();
+        List<ListWordCount> corrections = new ArrayList<>();
+        for (VocabList list : page) {
+            ListWordCount count = actual.get(list.getId());
+            long words = count == null ? 0 : count.getCount();
+            LocalDateTime lastAddedAt = count == null ? null : count.getLastAddedAt();
+            if (list.getWordCount() != words || !Objects.equals(list.getLastAddedAt(), lastAddedAt)) {
+                observed.add(list);
+                corrections.add(new ListWordCount(list.getId(), words, lastAddedAt));
+            }
+        }
+        return vocabListRepository.applyWordCounts(observed, corrections);
+    }
+}
@@ -3,9 +3,11 @@ package com.vocab.vocabApp;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(scanBasePackages = "com.vocab")
 @EnableMongoRepositories(basePackages = "com.vocab.repository")
+@EnableScheduling
 public class VocabAppApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,67 @@
+package com.vocab.config;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.index.CompoundIndexDefinition;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MongoIndexConfigTest {
+
+    @Test
+    void testContainsStage_FindsNestedCollectionScan() {
+        Document plan = new Document("stage", "SORT")
+                .append("inputStage", new Document("stage", "FETCH")
+                        .append("inputStage", new Document("stage", "COLLSCAN")));
+
+        assertTrue(MongoIndexConfig.containsStage(plan, "COLLSCAN"));
+    }
+
+    @Test
+    void testContainsStage_LooksInsideOrBranches() {
+        Document plan = new Document("stage", "OR")
+                .append("inputStages", List.of(
+                        new Document("stage", "IXSCAN"),
+                        new Document("stage", "COLLSCAN")));
+
+        assertTrue(MongoIndexConfig.containsStage(plan, "COLLSCAN"));
+    }
+
+    @Test
+    void testContainsStage_IndexScanOnly() {
+        Document plan = new Document("queryPlan", new Document("stage", "FETCH")
+                .append("inputStage", new Document("stage", "IXSCAN").append("indexName", "email")));
+
+        assertFalse(MongoIndexConfig.containsStage(plan, "COLLSCAN"));
+    }
+
+    @Test
+    void testHasUniqueIndex_MatchesKeysInOrder() {
+        CompoundIndexDefinition index = new CompoundIndexDefinition(
+                new Document("userId", 1).append("listId", 1).append("word", 1));
+        index.named("userId_listId_word").unique();
+        IndexInfo existing = new IndexInfo(List.of(
+                IndexField.create("userId", Sort.Direction.ASC),
+                IndexField.create("listId", Sort.Direction.ASC),
+                IndexField.create("word", Sort.Direction.ASC)), "by_hand", true, false, "");
+
+        assertTrue(MongoIndexConfig.isUnique(index));
+        assertTrue(MongoIndexConfig.hasUniqueIndex(List.of(existing), index));
+    }
+
+    @Test
+    void testHasUniqueIndex_NonUniqueIndexDoesNotCount() {
+        Index index = new Index().on("email", Sort.Direction.ASC).named("email").unique();
+        IndexInfo existing = new IndexInfo(List.of(IndexField.create("email", Sort.Direction.ASC)),
+                "email", false, false, "");
+
+        assertFalse(MongoIndexConfig.hasUniqueIndex(List.of(existing), index));
+        assertFalse(MongoIndexConfig.hasUniqueIndex(List.of(), index));
+    }
+}
@@ -0,0 +1,85 @@
+package com.vocab.config;
+
+import com.vocab.service.TokenService;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenAuthenticationFilterTest {
+
+    private final TokenService tokenService = new TokenService();
+    private final TokenAuthenticationFilter filter = new TokenAuthenticationFilter(tokenService);
+
+    @Test
+    void testFilter_ValidTokenSetsUser() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/vocab/lists/user123");
+        request.addHeader("Authorization", "Bearer " + tokenService.issue("user123", 0).get("accessToken"));
+        AtomicReference<Authentication> seen = new AtomicReference<>();
+        MockFilterChain chain = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest req, ServletResponse res) {
+                seen.set(SecurityContextHolder.getContext().getAuthentication());
+            }
+        };
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertEquals("user123", seen.get().getPrincipal());
+        assertEquals("user123", request.getAttribute(TokenAuthenticationFilter.USER_ID_ATTRIBUTE));
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void testFilter_InvalidTokenIsAnonymous() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/vocab/lists/user123");
+        request.addHeader("Authorization", "Bearer forged.token");
+        AtomicReference<Authentication> seen = new AtomicReference<>();
+        MockFilterChain chain = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest req, ServletResponse res) {
+                seen.set(SecurityContextHolder.getContext().getAuthentication());
+            }
+        };
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertNull(seen.get());
+        assertNull(request.getAttribute(TokenAuthenticationFilter.USER_ID_ATTRIBUTE));
+    }
+
+    @Test
+    void testFilter_ExpiredTokenStillReachesRefresh() throws Exception {
+        ReflectionTestUtils.setField(tokenService, "accessTtlSeconds", -60L);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/refresh");
+        request.addHeader("Authorization", "Bearer " + tokenService.issue("user123", 0).get("accessToken"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertSame(request, chain.getRequest());
+        assertEquals(200, response.getStatus());
+        assertNull(request.getAttribute(TokenAuthenticationFilter.USER_ID_ATTRIBUTE));
+    }
+
+    @Test
+    void testFilter_NoTokenPassesThrough() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/dictionary/word");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+        assertNull(request.getAttribute(TokenAuthenticationFilter.USER_ID_ATTRIBUTE));
+    }
+}
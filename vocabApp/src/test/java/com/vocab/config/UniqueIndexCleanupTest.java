@@ -0,0 +1,129 @@
+package com.vocab.config;
+
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import com.vocab.model.Tombstone;
+import com.vocab.model.User;
+import com.vocab.model.VocabList;
+import com.vocab.model.WordInList;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UniqueIndexCleanupTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private UniqueIndexCleanup uniqueIndexCleanup;
+
+    private static IndexDefinition uniqueIndex(Class<?> type) {
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(new MongoCustomConversions(List.of()).getSimpleTypeHolder());
+        for (IndexDefinition index : IndexResolver.create(mappingContext).resolveIndexFor(type)) {
+            if (MongoIndexConfig.isUnique(index)) {
+                return index;
+            }
+        }
+        throw new AssertionError("no unique index on " + type);
+    }
+
+    private void returnGroups(String collection, Document... groups) {
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(collection), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(List.of(groups), new Document()));
+    }
+
+    @Test
+    void testDuplicates_GroupsOnKeysWithinPartialFilter() {
+        List<Document> pipeline = UniqueIndexCleanup.duplicates(uniqueIndex(VocabList.class)).toPipeline(
+                Aggregation.DEFAULT_CONTEXT);
+
+        assertEquals(new Document("$match", new Document("history", true)), pipeline.get(0));
+        assertEquals(new Document("userId", "$userId"),
+                pipeline.get(2).get("$group", Document.class).get("_id"));
+        assertEquals(new Document("$match", new Document("count", new Document("$gt", 1))), pipeline.get(3));
+    }
+
+    @Test
+    void testResolveDuplicates_RemovesAndTombstonesExtraWords() {
+        // Arrange
+        when(mongoTemplate.getCollectionName(WordInList.class)).thenReturn("wordinlists");
+        returnGroups("wordinlists", new Document("_id", new Document("userId", "user123")
+                .append("listId", "list456").append("word", "eloquent"))
+                .append("ids", List.of("word1", "word2", "word3")).append("count", 3));
+        when(mongoTemplate.remove(any(Query.class), eq("wordinlists"))).thenReturn(DeleteResult.acknowledged(2));
+
+        // Act
+        int resolved = uniqueIndexCleanup.resolveDuplicates(WordInList.class, uniqueIndex(WordInList.class));
+
+        // Assert
+        assertEquals(2, resolved);
+        ArgumentCaptor<Query> removed = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).remove(removed.capture(), eq("wordinlists"));
+        assertEquals(List.of("word2", "word3"),
+                removed.getValue().getQueryObject().get("_id", Document.class).get("$in"));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Tombstone>> tombstones = ArgumentCaptor.forClass(Collection.class);
+        verify(mongoTemplate).insert(tombstones.capture(), eq(Tombstone.class));
+        assertEquals(List.of("word2", "word3"), tombstones.getValue().stream().map(Tombstone::getTargetId).toList());
+        assertEquals("list456", tombstones.getValue().iterator().next().getListId());
+    }
+
+    @Test
+    void testResolveDuplicates_RenamesExtraAccounts() {
+        // Arrange
+        when(mongoTemplate.getCollectionName(User.class)).thenReturn("users");
+        returnGroups("users", new Document("_id", new Document("email", "test@example.com"))
+                .append("ids", List.of("user1", "user2")).append("count", 2));
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq("users")))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        // Act
+        int resolved = uniqueIndexCleanup.resolveDuplicates(User.class, uniqueIndex(User.class));
+
+        // Assert
+        assertEquals(1, resolved);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(any(Query.class), update.capture(), eq("users"));
+        assertEquals("test@example.com#duplicate-user2",
+                update.getValue().getUpdateObject().get("$set", Document.class).get("email"));
+        verify(mongoTemplate, never()).remove(any(Query.class), anyString());
+    }
+
+    @Test
+    void testResolveDuplicates_NothingToDo() {
+        // Arrange
+        when(mongoTemplate.getCollectionName(User.class)).thenReturn("users");
+        returnGroups("users");
+
+        // Act
+        int resolved = uniqueIndexCleanup.resolveDuplicates(User.class, uniqueIndex(User.class));
+
+        // Assert
+        assertEquals(0, resolved);
+        verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class), anyString());
+    }
+}
@@ -1,22 +1,33 @@
 package com.vocab.controller;
 
 import com.vocab.model.User;
-import com.vocab.model.VocabList;
 import com.vocab.repository.UserRepository;
-import com.vocab.repository.VocabListRepository;
+import com.vocab.service.LoginThrottle;
+import com.vocab.service.PasswordHashingService;
+import com.vocab.service.RepositoryReadCoalescer;
+import com.vocab.service.TokenService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -28,18 +39,31 @@ class AuthControllerTest {
     @Mock
     private UserRepository userRepository;
 
-    @Mock
-    private VocabListRepository vocabListRepository;
+    @Spy
+    private RepositoryReadCoalescer repositoryReadCoalescer = new RepositoryReadCoalescer();
+
+    @Spy
+    private PasswordHashingService passwordHashingService = new PasswordHashingService();
+
+    @Spy
+    private LoginThrottle loginThrottle = new LoginThrottle();
+
+    @Spy
+    private TokenService tokenService = new TokenService();
 
     @InjectMocks
     private AuthController authController;
 
     private BCryptPasswordEncoder passwordEncoder;
     private User testUser;
+    private MockHttpServletRequest httpRequest;
 
     @BeforeEach
     void setUp() {
         passwordEncoder = new BCryptPasswordEncoder();
+        httpRequest = new MockHttpServletRequest();
+        httpRequest.setRemoteAddr("203.0.113.7");
+        ReflectionTestUtils.setField(authController, "taskExecutor", ForkJoinPool.commonPool());
         
         testUser = new User();
         testUser.setId("user123");
@@ -65,12 +89,14 @@ class AuthControllerTest {
         savedUser.setEmail(newUser.getEmail());
         savedUser.setPassword(passwordEncoder.encode(newUser.getPassword()));
 
-        when(userRepository.existsByEmail(anyString())).thenReturn(false);
-        when(userRepository.save(any(User.class))).thenReturn(savedUser);
-        when(vocabListRepository.save(any(VocabList.class))).thenReturn(new VocabList());
+        AtomicReference<String> insertThread = new AtomicReference<>();
+        when(userRepository.insert(any(User.class))).thenAnswer(invocation -> {
+            insertThread.set(Thread.currentThread().getName());
+            return savedUser;
+        });
 
         // Act
-        ResponseEntity<?> response = authController.register(newUser);
+        ResponseEntity<?> response = authController.register(newUser).join();
 
         // Assert
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
@@ -82,9 +108,9 @@ class AuthControllerTest {
         assertEquals("Sign Up Successful", body.get("message"));
         assertEquals("newUserId", body.get("userId"));
 
-        verify(userRepository).existsByEmail("newuser@example.com");
-        verify(userRepository).save(any(User.class));
-        verify(vocabListRepository).save(any(VocabList.class));
+        verify(userRepository).insert(argThat((User user) -> passwordEncoder.matches("password123", user.getPassword())));
+        verify(userRepository, never()).existsByEmail(anyString());
+        assertFalse(insertThread.get().startsWith("password-hash-"));
     }
 
     @Test
@@ -96,10 +122,10 @@ class AuthControllerTest {
         newUser.setSecurityQuestion("Question?");
         newUser.setSecurityAnswer("Answer");
 
-        when(userRepository.existsByEmail(anyString())).thenReturn(true);
+        when(userRepository.insert(any(User.class))).thenThrow(new DuplicateKeyException("E11000 duplicate key"));
 
         // Act
-        ResponseEntity<?> response = authController.register(newUser);
+        ResponseEntity<?> response = authController.register(newUser).join();
 
         // Assert
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
@@ -108,8 +134,7 @@ class AuthControllerTest {
         Map<String, String> body = (Map<String, String>) response.getBody();
         assertEquals("This email is already registered", body.get("error"));
 
-        verify(userRepository).existsByEmail("existing@example.com");
-        verify(userRepository, never()).save(any(User.class));
+        verify(userRepository).insert(any(User.class));
     }
 
     @Test
@@ -120,7 +145,7 @@ class AuthControllerTest {
         // Missing password, security question, and answer
 
         // Act
-        ResponseEntity<?> response = authController.register(newUser);
+        ResponseEntity<?> response = authController.register(newUser).join();
 
         // Assert
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
@@ -129,7 +154,7 @@ class AuthControllerTest {
         Map<String, String> body = (Map<String, String>) response.getBody();
         assertEquals("All fields are required", body.get("error"));
 
-        verify(userRepository, never()).save(any(User.class));
+        verifyNoInteractions(userRepository);
     }
 
     // ==================== LOGIN TESTS ====================
@@ -144,7 +169,7 @@ class AuthControllerTest {
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(testUser));
 
         // Act
-        ResponseEntity<?> response = authController.login(credentials);
+        ResponseEntity<?> response = authController.login(credentials, httpRequest).join();
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -153,6 +178,9 @@ class AuthControllerTest {
         Map<String, Object> body = (Map<String, Object>) response.getBody();
         assertEquals("Login successful", body.get("message"));
         assertEquals("user123", body.get("userId"));
+        assertEquals("user123", tokenService.verifyAccessToken((String) body.get("accessToken")));
+        assertEquals(new TokenService.RefreshToken("user123", 0),
+                tokenService.verifyRefreshToken((String) body.get("refreshToken")));
 
         verify(userRepository).findByEmail("test@example.com");
     }
@@ -167,7 +195,7 @@ class AuthControllerTest {
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.empty());
 
         // Act
-        ResponseEntity<?> response = authController.login(credentials);
+        ResponseEntity<?> response = authController.login(credentials, httpRequest).join();
 
         // Assert
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
@@ -189,7 +217,7 @@ class AuthControllerTest {
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(testUser));
 
         // Act
-        ResponseEntity<?> response = authController.login(credentials);
+        ResponseEntity<?> response = authController.login(credentials, httpRequest).join();
 
         // Assert
         assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
@@ -199,6 +227,139 @@ class AuthControllerTest {
         assertEquals("Incorrect password", body.get("error"));
     }
 
+    @Test
+    void testLogin_RehashesOutdatedHash() {
+        // Arrange
+        String oldHash = new BCryptPasswordEncoder(4).encode("password123");
+        testUser.setPassword(oldHash);
+        Map<String, String> credentials = new HashMap<>();
+        credentials.put("email", "test@example.com");
+        credentials.put("password", "password123");
+
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(testUser));
+
+        // Act
+        ResponseEntity<?> response = authController.login(credentials, httpRequest).join();
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(userRepository, timeout(5000)).updatePasswordIfUnchanged(eq("user123"), eq(oldHash),
+                argThat(hash -> hash.startsWith("$2a$10$")));
+    }
+
+    @Test
+    void testLogin_Throttled() {
+        // Arrange
+        Map<String, String> credentials = new HashMap<>();
+        credentials.put("email", "test@example.com");
+        credentials.put("password", "password123");
+
+        doReturn(2500L).when(loginThrottle).tryAcquire("test@example.com", "203.0.113.7");
+
+        // Act
+        ResponseEntity<?> response = authController.login(credentials, httpRequest).join();
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("3", response.getHeaders().getFirst("Retry-After"));
+        verifyNoInteractions(userRepository);
+        verify(passwordHashingService, never()).matches(anyString(), anyString());
+    }
+
+    @Test
+    void testLogin_ThrottlesOnForwardedClientIp() {
+        // Arrange
+        Map<String, String> credentials = new HashMap<>();
+        credentials.put("email", "test@example.com");
+        credentials.put("password", "password123");
+        ReflectionTestUtils.setField(loginThrottle, "trustedProxies", List.of("10.0.0.0/8"));
+        httpRequest.setRemoteAddr("10.0.0.2");
+        httpRequest.addHeader("X-Forwarded-For", "198.51.100.23");
+
+        doReturn(2500L).when(loginThrottle).tryAcquire("test@example.com", "198.51.100.23");
+
+        // Act
+        ResponseEntity<?> response = authController.login(credentials, httpRequest).join();
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        verify(loginThrottle, never()).tryAcquire("test@example.com", "10.0.0.2");
+    }
+
+    @Test
+    void testLogin_HashingSaturated() {
+        // Arrange
+        Map<String, String> credentials = new HashMap<>();
+        credentials.put("email", "test@example.com");
+        credentials.put("password", "password123");
+
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(testUser));
+        doReturn(CompletableFuture.failedFuture(new RejectedExecutionException("queue full")))
+                .when(passwordHashingService).matches(anyString(), anyString());
+
+        // Act
+        ResponseEntity<?> response = authController.login(credentials, httpRequest).join();
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst("Retry-After"));
+    }
+
+    // ==================== REFRESH TESTS ====================
+
+    @Test
+    void testRefresh_Success() {
+        // Arrange
+        String refreshToken = (String) tokenService.issue("user123", 0).get("refreshToken");
+        Map<String, String> request = new HashMap<>();
+        request.put("refreshToken", refreshToken);
+
+        when(userRepository.findById("user123")).thenReturn(Optional.of(testUser));
+
+        // Act
+        ResponseEntity<?> response = authController.refresh(request);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> body = (Map<String, Object>) response.getBody();
+        assertEquals("user123", body.get("userId"));
+        assertEquals("user123", tokenService.verifyAccessToken((String) body.get("accessToken")));
+    }
+
+    @Test
+    void testRefresh_RevokedByPasswordReset() {
+        // Arrange
+        String refreshToken = (String) tokenService.issue("user123", 0).get("refreshToken");
+        Map<String, String> request = new HashMap<>();
+        request.put("refreshToken", refreshToken);
+
+        testUser.setTokenVersion(1);
+        when(userRepository.findById("user123")).thenReturn(Optional.of(testUser));
+
+        // Act
+        ResponseEntity<?> response = authController.refresh(request);
+
+        // Assert
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+    }
+
+    @Test
+    void testRefresh_RejectsAccessToken() {
+        // Arrange
+        String accessToken = (String) tokenService.issue("user123", 0).get("accessToken");
+        Map<String, String> request = new HashMap<>();
+        request.put("refreshToken", accessToken);
+
+        // Act
+        ResponseEntity<?> response = authController.refresh(request);
+
+        // Assert
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+        verifyNoInteractions(userRepository);
+    }
+
     // ==================== FORGOT PASSWORD TESTS ====================
 
     @Test
@@ -253,7 +414,7 @@ class AuthControllerTest {
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(testUser));
 
         // Act
-        ResponseEntity<?> response = authController.verifySecurity(request);
+        ResponseEntity<?> response = authController.verifySecurity(request, httpRequest);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -273,7 +434,7 @@ class AuthControllerTest {
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(testUser));
 
         // Act
-        ResponseEntity<?> response = authController.verifySecurity(request);
+        ResponseEntity<?> response = authController.verifySecurity(request, httpRequest);
 
         // Assert
         assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
@@ -283,6 +444,23 @@ class AuthControllerTest {
         assertEquals("Incorrect answer", body.get("error"));
     }
 
+    @Test
+    void testVerifySecurity_Throttled() {
+        // Arrange
+        Map<String, String> request = new HashMap<>();
+        request.put("email", "test@example.com");
+        request.put("securityAnswer", "Wrong");
+
+        doReturn(60000L).when(loginThrottle).tryAcquire("test@example.com", "203.0.113.7");
+
+        // Act
+        ResponseEntity<?> response = authController.verifySecurity(request, httpRequest);
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        verifyNoInteractions(userRepository);
+    }
+
     // ==================== RESET PASSWORD TESTS ====================
 
     @Test
@@ -296,7 +474,7 @@ class AuthControllerTest {
         when(userRepository.save(any(User.class))).thenReturn(testUser);
 
         // Act
-        ResponseEntity<?> response = authController.resetPassword(request);
+        ResponseEntity<?> response = authController.resetPassword(request).join();
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -305,7 +483,7 @@ class AuthControllerTest {
         Map<String, String> body = (Map<String, String>) response.getBody();
         assertEquals("Your password has been reset", body.get("message"));
 
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).save(argThat((User user) -> user.getTokenVersion() == 1));
     }
 
     @Test
@@ -316,7 +494,7 @@ class AuthControllerTest {
         request.put("newPassword", "");
 
         // Act
-        ResponseEntity<?> response = authController.resetPassword(request);
+        ResponseEntity<?> response = authController.resetPassword(request).join();
 
         // Assert
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
@@ -338,7 +516,7 @@ class AuthControllerTest {
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.empty());
 
         // Act
-        ResponseEntity<?> response = authController.resetPassword(request);
+        ResponseEntity<?> response = authController.resetPassword(request).join();
 
         // Assert
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
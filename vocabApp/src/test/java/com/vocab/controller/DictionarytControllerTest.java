@@ -2,23 +2,37 @@ package com.vocab.controller;
 
 import com.vocab.model.Dictionary;
 import com.vocab.repository.DictionaryRepository;
+import com.vocab.service.DictionaryImporter;
+import com.vocab.service.DictionaryIndexLoader;
+import com.vocab.service.DictionaryLookupCache;
+import com.vocab.service.DictionarySampler;
+import com.vocab.service.DictionarySearchIndex;
+import com.vocab.service.DictionarySnapshot;
+import com.vocab.service.DictionarySpellChecker;
+import com.vocab.service.DictionarySuggester;
+import com.vocab.service.RepositoryReadCoalescer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +41,33 @@ class DictionaryControllerTest {
     @Mock
     private DictionaryRepository dictionaryRepository;
 
+    @Mock
+    private DictionarySampler dictionarySampler;
+
+    @Spy
+    private DictionaryLookupCache dictionaryLookupCache = new DictionaryLookupCache();
+
+    @Spy
+    private DictionarySuggester dictionarySuggester = new DictionarySuggester();
+
+    @Spy
+    private DictionarySpellChecker dictionarySpellChecker = new DictionarySpellChecker();
+
+    @Spy
+    private DictionarySearchIndex dictionarySearchIndex = new DictionarySearchIndex();
+
+    @Mock
+    private DictionarySnapshot dictionarySnapshot;
+
+    @Mock
+    private DictionaryIndexLoader dictionaryIndexLoader;
+
+    @Mock
+    private DictionaryImporter dictionaryImporter;
+
+    @Spy
+    private RepositoryReadCoalescer repositoryReadCoalescer = new RepositoryReadCoalescer();
+
     @InjectMocks
     private DictionaryController dictionaryController;
 
@@ -57,7 +98,7 @@ class DictionaryControllerTest {
     @Test
     void testGetRandomWord_Success() {
         // Arrange
-        when(dictionaryRepository.findAll()).thenReturn(wordList);
+        when(dictionarySampler.sample()).thenReturn(testWord);
 
         // Act
         ResponseEntity<?> response = dictionaryController.getRandomWord();
@@ -68,15 +109,16 @@ class DictionaryControllerTest {
         assertTrue(response.getBody() instanceof Dictionary);
         
         Dictionary returnedWord = (Dictionary) response.getBody();
-        assertTrue(returnedWord.getWord().equals("example") || returnedWord.getWord().equals("test"));
+        assertEquals("example", returnedWord.getWord());
 
-        verify(dictionaryRepository).findAll();
+        verify(dictionarySampler).sample();
+        verify(dictionaryRepository, never()).findAll();
     }
 
     @Test
     void testGetRandomWord_EmptyDictionary() {
         // Arrange
-        when(dictionaryRepository.findAll()).thenReturn(new ArrayList<>());
+        when(dictionarySampler.sample()).thenReturn(null);
 
         // Act
         ResponseEntity<?> response = dictionaryController.getRandomWord();
@@ -88,13 +130,13 @@ class DictionaryControllerTest {
         Map<String, String> body = (Map<String, String>) response.getBody();
         assertEquals("No words in dictionary", body.get("error"));
 
-        verify(dictionaryRepository).findAll();
+        verify(dictionarySampler).sample();
     }
 
     @Test
-    void testGetRandomWord_RepositoryThrowsException() {
+    void testGetRandomWord_SamplerThrowsException() {
         // Arrange
-        when(dictionaryRepository.findAll()).thenThrow(new RuntimeException("Database error"));
+        when(dictionarySampler.sample()).thenThrow(new RuntimeException("Database error"));
 
         // Act
         ResponseEntity<?> response = dictionaryController.getRandomWord();
@@ -106,7 +148,7 @@ class DictionaryControllerTest {
         Map<String, String> body = (Map<String, String>) response.getBody();
         assertEquals("Failed to fetch random word", body.get("error"));
 
-        verify(dictionaryRepository).findAll();
+        verify(dictionarySampler).sample();
     }
 
     // ==================== GET WORD DEFINITION TESTS ====================
@@ -131,6 +173,20 @@ class DictionaryControllerTest {
         verify(dictionaryRepository).findByWord("example");
     }
 
+    @Test
+    void testGetWordDefinition_ServedFromSnapshot() {
+        // Arrange
+        when(dictionarySnapshot.find("example")).thenReturn(testWord);
+
+        // Act
+        ResponseEntity<?> response = dictionaryController.getWordDefinition("example");
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(testWord, response.getBody());
+        verifyNoInteractions(dictionaryRepository);
+    }
+
     @Test
     void testGetWordDefinition_CaseInsensitive() {
         // Arrange
@@ -179,6 +235,184 @@ class DictionaryControllerTest {
         assertEquals("Failed to fetch word", body.get("error"));
     }
 
+    @Test
+    void testGetWordDefinition_ServedFromCache() {
+        // Arrange
+        when(dictionaryRepository.findByWord("example")).thenReturn(testWord);
+
+        // Act
+        dictionaryController.getWordDefinition("example");
+        ResponseEntity<?> response = dictionaryController.getWordDefinition("Example");
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(testWord, response.getBody());
+        verify(dictionaryRepository, times(1)).findByWord("example");
+    }
+
+    @Test
+    void testGetWordDefinition_MissIsCached() {
+        // Arrange
+        when(dictionaryRepository.findByWord("nonexistent")).thenReturn(null);
+
+        // Act
+        dictionaryController.getWordDefinition("nonexistent");
+        ResponseEntity<?> response = dictionaryController.getWordDefinition("nonexistent");
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        verify(dictionaryRepository, times(1)).findByWord("nonexistent");
+        assertEquals(1L, dictionaryLookupCache.stats().get("negativeHits"));
+    }
+
+    @Test
+    void testGetWordDefinition_NotFoundIncludesSuggestions() {
+        // Arrange
+        dictionarySpellChecker.rebuild(wordList);
+        when(dictionaryRepository.findByWord("exampel")).thenReturn(null);
+
+        // Act
+        ResponseEntity<?> response = dictionaryController.getWordDefinition("exampel");
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        @SuppressWarnings("unchecked")
+        Map<String, Object> body = (Map<String, Object>) response.getBody();
+        assertEquals("Word not found", body.get("error"));
+        assertEquals(List.of("example"), body.get("suggestions"));
+    }
+
+    @Test
+    void testDidYouMean_ReturnsClosestWords() {
+        // Arrange
+        dictionarySpellChecker.rebuild(Arrays.asList(testWord, word("sample"), word("examine")));
+
+        // Act
+        ResponseEntity<?> response = dictionaryController.didYouMean("exmaple", 5);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        @SuppressWarnings("unchecked")
+        Map<String, Object> body = (Map<String, Object>) response.getBody();
+        @SuppressWarnings("unchecked")
+        List<DictionarySpellChecker.Suggestion> suggestions =
+                (List<DictionarySpellChecker.Suggestion>) body.get("suggestions");
+        assertEquals(1, suggestions.size());
+        assertEquals("example", suggestions.get(0).getWord());
+        assertEquals(1, suggestions.get(0).getDistance());
+        verifyNoInteractions(dictionaryRepository);
+    }
+
+    // ==================== BATCH LOOKUP TESTS ====================
+
+    @Test
+    void testGetWordDefinitions_CachedAndQueriedWords() {
+        // Arrange
+        dictionaryLookupCache.put("example", testWord);
+        dictionaryLookupCache.put("unknown", null);
+        when(dictionarySnapshot.find(anyString()))
+                .thenAnswer(invocation -> "mapped".equals(invocation.getArgument(0)) ? word("mapped") : null);
+        when(dictionaryRepository.findByWordIn(List.of("test", "nothing"))).thenReturn(List.of(wordList.get(1)));
+
+        // Act
+        ResponseEntity<?> response = dictionaryController.getWordDefinitions(
+                Arrays.asList("Example", "test", "unknown", "mapped", "nothing", "TEST", " "));
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        @SuppressWarnings("unchecked")
+        Map<String, Object> body = (Map<String, Object>) response.getBody();
+        @SuppressWarnings("unchecked")
+        List<Dictionary> found = (List<Dictionary>) body.get("found");
+        assertEquals(List.of("example", "test", "mapped"), found.stream().map(Dictionary::getWord).toList());
+        assertEquals(List.of("unknown", "nothing"), body.get("missing"));
+        verify(dictionaryRepository, times(1)).findByWordIn(anyCollection());
+        assertTrue(dictionaryLookupCache.get("nothing").isMiss());
+    }
+
+    @Test
+    void testGetWordDefinitions_AllCachedSkipsQuery() {
+        // Arrange
+        dictionaryLookupCache.put("example", testWord);
+
+        // Act
+        ResponseEntity<?> response = dictionaryController.getWordDefinitions(List.of("example"));
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verifyNoInteractions(dictionaryRepository);
+    }
+
+    @Test
+    void testGetWordDefinitions_EmptyRequest() {
+        // Act
+        ResponseEntity<?> response = dictionaryController.getWordDefinitions(List.of());
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    // ==================== SUGGEST TESTS ====================
+
+    @Test
+    void testSuggest_RanksLookedUpWordsFirst() {
+        // Arrange
+        dictionarySuggester.rebuild(Arrays.asList(testWord, wordList.get(1), word("exam"), word("exact")));
+        when(dictionaryRepository.findByWord("exact")).thenReturn(word("exact"));
+        dictionaryController.getWordDefinition("exact");
+
+        // Act
+        ResponseEntity<?> response = dictionaryController.suggest("Ex", 10);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        @SuppressWarnings("unchecked")
+        Map<String, Object> body = (Map<String, Object>) response.getBody();
+        assertEquals(Arrays.asList("exact", "exam", "example"), body.get("suggestions"));
+    }
+
+    @Test
+    void testSuggest_BlankPrefix() {
+        // Act
+        ResponseEntity<?> response = dictionaryController.suggest(" ", 10);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    // ==================== SEARCH TESTS ====================
+
+    @Test
+    void testSearch_FindsWordByMeaning() {
+        // Arrange
+        Dictionary acrophobia = word("acrophobia");
+        acrophobia.setShortdef("abnormal dread of being at great heights");
+        acrophobia.setPartOfSpeech("noun");
+        dictionarySearchIndex.rebuild(Arrays.asList(testWord, wordList.get(1), acrophobia));
+
+        // Act
+        ResponseEntity<?> response = dictionaryController.search("a word for dread of heights", null, "noun", 10);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        @SuppressWarnings("unchecked")
+        Map<String, Object> body = (Map<String, Object>) response.getBody();
+        @SuppressWarnings("unchecked")
+        List<DictionarySearchIndex.Hit> results = (List<DictionarySearchIndex.Hit>) body.get("results");
+        assertEquals(1, results.size());
+        assertSame(acrophobia, results.get(0).getEntry());
+        verifyNoInteractions(dictionaryRepository);
+    }
+
+    @Test
+    void testSearch_BlankQuery() {
+        // Act
+        ResponseEntity<?> response = dictionaryController.search("", null, null, 10);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
     // ==================== ADD WORD TESTS ====================
 
     @Test
@@ -212,6 +446,46 @@ class DictionaryControllerTest {
         assertEquals("newWordId", returnedWord.getId());
 
         verify(dictionaryRepository).save(any(Dictionary.class));
+        verify(dictionaryIndexLoader).add(savedWord);
+    }
+
+    @Test
+    void testAddWord_DuplicateWord() {
+        // Arrange
+        Dictionary newWord = new Dictionary();
+        newWord.setWord("Example");
+        newWord.setShortdef("Already there");
+
+        when(dictionaryRepository.save(any(Dictionary.class)))
+                .thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
+
+        // Act
+        ResponseEntity<?> response = dictionaryController.addWord(newWord);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(Map.of("error", "This word is already in the dictionary"), response.getBody());
+        verify(dictionaryIndexLoader, never()).add(any());
+    }
+
+    @Test
+    void testAddWord_InvalidatesCachedMiss() {
+        // Arrange
+        Dictionary newWord = new Dictionary();
+        newWord.setWord("Fresh");
+        newWord.setShortdef("newly made");
+
+        when(dictionaryRepository.findByWord("fresh")).thenReturn(null, newWord);
+        when(dictionaryRepository.save(any(Dictionary.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        dictionaryController.getWordDefinition("fresh");
+        dictionaryController.addWord(newWord);
+        ResponseEntity<?> response = dictionaryController.getWordDefinition("fresh");
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(dictionaryRepository, times(2)).findByWord("fresh");
     }
 
     @Test
@@ -255,5 +529,46 @@ class DictionaryControllerTest {
         @SuppressWarnings("unchecked")
         Map<String, String> body = (Map<String, String>) response.getBody();
         assertEquals("Failed to add word", body.get("error"));
+        verify(dictionaryIndexLoader, never()).add(any(Dictionary.class));
+    }
+
+    // ==================== IMPORT TESTS ====================
+
+    @Test
+    void testImportWords_CsvContentTypeSelectsCsv() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContentType("text/csv; charset=utf-8");
+        request.setContent("word\nalpha\n".getBytes());
+        when(dictionaryImporter.importWords(any(), eq(DictionaryImporter.FORMAT_CSV), eq(500)))
+                .thenReturn(new DictionaryImporter.Summary());
+
+        // Act
+        ResponseEntity<?> response = dictionaryController.importWords(request, 500);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getBody() instanceof DictionaryImporter.Summary);
+    }
+
+    @Test
+    void testImportWords_ImporterThrowsException() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContentType("application/x-ndjson");
+        when(dictionaryImporter.importWords(any(), eq(DictionaryImporter.FORMAT_NDJSON), isNull()))
+                .thenThrow(new RuntimeException("Database error"));
+
+        // Act
+        ResponseEntity<?> response = dictionaryController.importWords(request, null);
+
+        // Assert
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+    }
+
+    private Dictionary word(String value) {
+        Dictionary dictionary = new Dictionary();
+        dictionary.setWord(value);
+        return dictionary;
     }
 }
\ No newline at end of file
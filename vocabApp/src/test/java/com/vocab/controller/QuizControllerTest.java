@@ -0,0 +1,156 @@
+package com.vocab.controller;
+
+import com.vocab.config.TokenAuthenticationFilter;
+import com.vocab.model.Dictionary;
+import com.vocab.model.VocabList;
+import com.vocab.model.WordInList;
+import com.vocab.repository.VocabListRepository;
+import com.vocab.repository.WordInListRepository;
+import com.vocab.service.QuizGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QuizControllerTest {
+
+    @Mock
+    private WordInListRepository wordInListRepository;
+
+    @Mock
+    private VocabListRepository vocabListRepository;
+
+    @Spy
+    private QuizGenerator quizGenerator = new QuizGenerator();
+
+    @InjectMocks
+    private QuizController quizController;
+
+    private String userId;
+    private String listId;
+
+    @BeforeEach
+    void setUp() {
+        userId = "user123";
+        listId = "list456";
+
+        List<Dictionary> dictionary = new ArrayList<>();
+        for (String word : List.of("lucid", "terse", "verbose", "candid")) {
+            Dictionary entry = new Dictionary();
+            entry.setWord(word);
+            entry.setShortdef("definition of " + word);
+            entry.setPartOfSpeech("adjective");
+            dictionary.add(entry);
+        }
+        quizGenerator.rebuild(dictionary);
+    }
+
+    @Test
+    void testGetQuiz_Success() {
+        // Arrange
+        WordInList word = new WordInList();
+        word.setId("word789");
+        word.setWord("lucid");
+        word.setDefinition("definition of lucid");
+        when(wordInListRepository.sampleByUserIdAndListId(userId, listId, 20)).thenReturn(List.of(word));
+
+        // Act
+        ResponseEntity<?> response = quizController.getQuiz(userId, listId, 20, 4);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> body = (Map<String, Object>) response.getBody();
+
+        @SuppressWarnings("unchecked")
+        List<QuizGenerator.Question> questions = (List<QuizGenerator.Question>) body.get("questions");
+        assertEquals(1, questions.size());
+        assertEquals(4, questions.get(0).getChoices().size());
+        verify(wordInListRepository, times(1)).sampleByUserIdAndListId(userId, listId, 20);
+        verifyNoMoreInteractions(wordInListRepository);
+    }
+
+    @Test
+    void testGetQuiz_DeletedList() {
+        // Arrange
+        VocabList list = new VocabList();
+        list.setId(listId);
+        list.setUserId(userId);
+        list.setDeletedAt(LocalDateTime.now());
+        when(vocabListRepository.findById(listId)).thenReturn(Optional.of(list));
+
+        // Act
+        ResponseEntity<?> response = quizController.getQuiz(userId, listId, 20, 4);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        verifyNoInteractions(wordInListRepository);
+    }
+
+    @Test
+    void testGetQuiz_TooManyChoices() {
+        // Act
+        ResponseEntity<?> response = quizController.getQuiz(userId, listId, 20, 10);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(wordInListRepository);
+    }
+
+    @Test
+    void testGetQuiz_RepositoryThrowsException() {
+        // Arrange
+        when(wordInListRepository.sampleByUserIdAndListId(anyString(), anyString(), anyInt()))
+                .thenThrow(new RuntimeException("Database error"));
+
+        // Act
+        ResponseEntity<?> response = quizController.getQuiz(userId, listId, 20, 4);
+
+        // Assert
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+    }
+
+    // ==================== AUTHORIZATION TESTS ====================
+
+    private static void authenticateAs(String tokenUserId) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(TokenAuthenticationFilter.USER_ID_ATTRIBUTE, tokenUserId);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void clearRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void testGetQuiz_OtherUsersToken() {
+        // Arrange
+        authenticateAs("someoneElse");
+
+        // Act
+        ResponseEntity<?> response = quizController.getQuiz(userId, listId, 10, 4);
+
+        // Assert
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+        verifyNoInteractions(wordInListRepository);
+    }
+}
@@ -0,0 +1,211 @@
+package com.vocab.controller;
+
+import com.vocab.config.TokenAuthenticationFilter;
+import com.vocab.model.VocabList;
+import com.vocab.model.WordInList;
+import com.vocab.repository.VocabListRepository;
+import com.vocab.repository.WordInListRepository;
+import com.vocab.service.ReviewScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewControllerTest {
+
+    @Mock
+    private WordInListRepository wordInListRepository;
+
+    @Mock
+    private VocabListRepository vocabListRepository;
+
+    @Spy
+    private ReviewScheduler reviewScheduler = new ReviewScheduler();
+
+    @InjectMocks
+    private ReviewController reviewController;
+
+    private String userId;
+    private WordInList testWord;
+
+    @BeforeEach
+    void setUp() {
+        userId = "user123";
+
+        testWord = new WordInList();
+        testWord.setId("word789");
+        testWord.setUserId(userId);
+        testWord.setListId("list456");
+        testWord.setWord("eloquent");
+    }
+
+    private ReviewController.Grade grade(String wordId, int value) {
+        ReviewController.Grade grade = new ReviewController.Grade();
+        grade.setWordId(wordId);
+        grade.setGrade(value);
+        return grade;
+    }
+
+    // ==================== GET DUE WORDS TESTS ====================
+
+    @Test
+    void testGetDueWords_Success() {
+        // Arrange
+        VocabList deleted = new VocabList();
+        deleted.setId("deletedList");
+        when(vocabListRepository.findDeletedByUserId(userId)).thenReturn(List.of(deleted));
+        when(wordInListRepository.findByUserIdAndDueAtLessThanEqualAndListIdNotInOrderByDueAtAsc(
+                eq(userId), any(LocalDateTime.class), eq(Set.of("deletedList")), any(Pageable.class)))
+                .thenReturn(List.of(testWord));
+
+        // Act
+        ResponseEntity<?> response = reviewController.getDueWords(userId, 20);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> body = (Map<String, Object>) response.getBody();
+        assertEquals(List.of(testWord), body.get("words"));
+
+        ArgumentCaptor<Pageable> page = ArgumentCaptor.forClass(Pageable.class);
+        verify(wordInListRepository).findByUserIdAndDueAtLessThanEqualAndListIdNotInOrderByDueAtAsc(
+                eq(userId), any(LocalDateTime.class), anyCollection(), page.capture());
+        assertEquals(20, page.getValue().getPageSize());
+        verify(wordInListRepository, never()).findByUserId(anyString());
+    }
+
+    @Test
+    void testGetDueWords_LimitOutOfRange() {
+        // Act
+        ResponseEntity<?> response = reviewController.getDueWords(userId, 0);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(wordInListRepository);
+    }
+
+    // ==================== RECORD GRADES TESTS ====================
+
+    @Test
+    void testRecordGrades_Success() {
+        // Arrange
+        when(wordInListRepository.findAllById(anyIterable())).thenReturn(List.of(testWord));
+
+        // Act
+        ResponseEntity<?> response = reviewController.recordGrades(userId,
+                List.of(grade("word789", 4), grade("missing", 4)));
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> body = (Map<String, Object>) response.getBody();
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> results = (List<Map<String, Object>>) body.get("results");
+        assertEquals("recorded", results.get(0).get("status"));
+        assertEquals(1, results.get(0).get("intervalDays"));
+        assertEquals("not_found", results.get(1).get("status"));
+
+        verify(wordInListRepository).applyReviews(List.of(testWord));
+        assertEquals(1, testWord.getRepetitions());
+        verify(wordInListRepository, never()).save(any(WordInList.class));
+    }
+
+    @Test
+    void testRecordGrades_IgnoresOtherUsersWords() {
+        // Arrange
+        testWord.setUserId("someoneElse");
+        when(wordInListRepository.findAllById(anyIterable())).thenReturn(List.of(testWord));
+
+        // Act
+        ResponseEntity<?> response = reviewController.recordGrades(userId, List.of(grade("word789", 5)));
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        Map<String, Object> body = (Map<String, Object>) response.getBody();
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> results = (List<Map<String, Object>>) body.get("results");
+        assertEquals("not_found", results.get(0).get("status"));
+        verify(wordInListRepository).applyReviews(List.of());
+    }
+
+    @Test
+    void testRecordGrades_IgnoresWordsOfDeletedLists() {
+        // Arrange
+        VocabList deleted = new VocabList();
+        deleted.setId(testWord.getListId());
+        when(vocabListRepository.findDeletedByUserId(userId)).thenReturn(List.of(deleted));
+        when(wordInListRepository.findAllById(anyIterable())).thenReturn(List.of(testWord));
+
+        // Act
+        ResponseEntity<?> response = reviewController.recordGrades(userId, List.of(grade("word789", 5)));
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        Map<String, Object> body = (Map<String, Object>) response.getBody();
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> results = (List<Map<String, Object>>) body.get("results");
+        assertEquals("not_found", results.get(0).get("status"));
+        verify(wordInListRepository).applyReviews(List.of());
+        assertEquals(0, testWord.getRepetitions());
+    }
+
+    @Test
+    void testRecordGrades_InvalidGrade() {
+        // Act
+        ResponseEntity<?> response = reviewController.recordGrades(userId, List.of(grade("word789", 7)));
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(wordInListRepository);
+    }
+
+    // ==================== AUTHORIZATION TESTS ====================
+
+    private static void authenticateAs(String tokenUserId) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(TokenAuthenticationFilter.USER_ID_ATTRIBUTE, tokenUserId);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void clearRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void testGetDueWords_OtherUsersToken() {
+        // Arrange
+        authenticateAs("someoneElse");
+
+        // Act
+        ResponseEntity<?> response = reviewController.getDueWords(userId, 20);
+
+        // Assert
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+        verifyNoInteractions(wordInListRepository);
+    }
+}
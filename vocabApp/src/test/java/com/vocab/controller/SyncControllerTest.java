@@ -0,0 +1,165 @@
+package com.vocab.controller;
+
+import com.vocab.config.TokenAuthenticationFilter;
+import com.vocab.model.Tombstone;
+import com.vocab.model.VocabList;
+import com.vocab.model.WordInList;
+import com.vocab.repository.TombstoneRepository;
+import com.vocab.repository.VocabListRepository;
+import com.vocab.repository.WordInListRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SyncControllerTest {
+
+    @Mock
+    private VocabListRepository vocabListRepository;
+
+    @Mock
+    private WordInListRepository wordInListRepository;
+
+    @Mock
+    private TombstoneRepository tombstoneRepository;
+
+    @InjectMocks
+    private SyncController syncController;
+
+    private String userId;
+    private VocabList testList;
+    private WordInList testWord;
+
+    @BeforeEach
+    void setUp() {
+        userId = "user123";
+
+        testList = new VocabList();
+        testList.setId("list456");
+        testList.setUserId(userId);
+        testList.setListName("My Vocab List");
+
+        testWord = new WordInList();
+        testWord.setId("word789");
+        testWord.setUserId(userId);
+        testWord.setListId("list456");
+        testWord.setWord("eloquent");
+    }
+
+    @Test
+    void testSync_NoTokenReturnsEverything() {
+        // Arrange
+        WordInList orphan = new WordInList();
+        orphan.setListId("deletedList");
+        when(vocabListRepository.findByUserId(userId)).thenReturn(List.of(testList));
+        when(wordInListRepository.findByUserId(userId)).thenReturn(List.of(testWord, orphan));
+
+        // Act
+        ResponseEntity<?> response = syncController.sync(userId, null);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> body = (Map<String, Object>) response.getBody();
+        assertEquals(true, body.get("fullSync"));
+        assertEquals(List.of(testList), body.get("lists"));
+        assertEquals(List.of(testWord), body.get("words"));
+        assertNotNull(body.get("nextSince"));
+        verifyNoInteractions(tombstoneRepository);
+    }
+
+    @Test
+    void testSync_TokenReturnsOnlyChanges() {
+        // Arrange
+        LocalDateTime since = LocalDateTime.now().minusHours(1);
+        VocabList deletedList = new VocabList();
+        deletedList.setId("gone");
+        deletedList.setDeletedAt(LocalDateTime.now());
+        Tombstone tombstone = new Tombstone(userId, Tombstone.TYPE_LIST, "gone", "gone");
+        when(vocabListRepository.findByUserIdAndUpdatedAtGreaterThan(userId, since))
+                .thenReturn(List.of(testList, deletedList));
+        when(wordInListRepository.findByUserIdAndUpdatedAtGreaterThan(userId, since)).thenReturn(List.of(testWord));
+        when(tombstoneRepository.findByUserIdAndDeletedAtGreaterThan(userId, since)).thenReturn(List.of(tombstone));
+
+        // Act
+        ResponseEntity<?> response = syncController.sync(userId, since.toString());
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        Map<String, Object> body = (Map<String, Object>) response.getBody();
+        assertEquals(false, body.get("fullSync"));
+        assertEquals(List.of(testList), body.get("lists"));
+        assertEquals(List.of(testWord), body.get("words"));
+        assertEquals(List.of(tombstone), body.get("deleted"));
+        verify(wordInListRepository, never()).findByUserId(anyString());
+    }
+
+    @Test
+    void testSync_ExpiredTokenFallsBackToFullSync() {
+        // Arrange
+        String since = LocalDateTime.now().minusDays(Tombstone.RETENTION_DAYS + 1).toString();
+        when(vocabListRepository.findByUserId(userId)).thenReturn(List.of());
+        when(wordInListRepository.findByUserId(userId)).thenReturn(List.of());
+
+        // Act
+        ResponseEntity<?> response = syncController.sync(userId, since);
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        Map<String, Object> body = (Map<String, Object>) response.getBody();
+        assertEquals(true, body.get("fullSync"));
+    }
+
+    @Test
+    void testSync_InvalidToken() {
+        // Act
+        ResponseEntity<?> response = syncController.sync(userId, "yesterday");
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(vocabListRepository, wordInListRepository, tombstoneRepository);
+    }
+
+    // ==================== AUTHORIZATION TESTS ====================
+
+    private static void authenticateAs(String tokenUserId) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(TokenAuthenticationFilter.USER_ID_ATTRIBUTE, tokenUserId);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void clearRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void testSync_OtherUsersToken() {
+        // Arrange
+        authenticateAs("someoneElse");
+
+        // Act
+        ResponseEntity<?> response = syncController.sync(userId, null);
+
+        // Assert
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+        verifyNoInteractions(vocabListRepository, wordInListRepository, tombstoneRepository);
+    }
+}
@@ -1,19 +1,39 @@
 package com.vocab.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vocab.config.TokenAuthenticationFilter;
+import com.vocab.model.LibraryList;
+import com.vocab.model.LibraryWord;
 import com.vocab.model.VocabList;
 import com.vocab.model.WordInList;
+import com.vocab.model.Tombstone;
+import com.vocab.repository.BulkInsertResult;
+import com.vocab.repository.TombstoneRepository;
 import com.vocab.repository.VocabListRepository;
 import com.vocab.repository.WordInListRepository;
+import com.vocab.service.RepositoryReadCoalescer;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -28,6 +48,15 @@ class VocabControllerTest {
     @Mock
     private WordInListRepository wordInListRepository;
 
+    @Mock
+    private TombstoneRepository tombstoneRepository;
+
+    @Spy
+    private RepositoryReadCoalescer repositoryReadCoalescer = new RepositoryReadCoalescer();
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
     @InjectMocks
     private VocabController vocabController;
 
@@ -119,16 +148,15 @@ class VocabControllerTest {
         historyList.setId("historyId");
         historyList.setUserId(userId);
         historyList.setListName("Vocab Word History");
+        historyList.setHistory(true);
 
         VocabList regularList = new VocabList();
         regularList.setId("regularId");
         regularList.setUserId(userId);
         regularList.setListName("Regular List");
 
-        List<VocabList> allLists = new ArrayList<>(Arrays.asList(historyList, regularList));
+        List<VocabList> allLists = new ArrayList<>(Arrays.asList(regularList, historyList));
 
-        when(vocabListRepository.findFirstByUserIdOrderByCreatedAtAsc(userId))
-                .thenReturn(Optional.of(historyList));
         when(vocabListRepository.findByUserId(userId)).thenReturn(allLists);
 
         // Act
@@ -150,9 +178,13 @@ class VocabControllerTest {
     @Test
     void testGetListsExcludingHistory_NoHistoryList() {
         // Arrange
-        when(vocabListRepository.findFirstByUserIdOrderByCreatedAtAsc(userId))
-                .thenReturn(Optional.empty());
-        when(vocabListRepository.findByUserId(userId)).thenReturn(Arrays.asList(testList));
+        VocabList created = new VocabList();
+        created.setId("historyId");
+        created.setUserId(userId);
+        created.setListName(VocabList.HISTORY_LIST_NAME);
+        created.setHistory(true);
+        when(vocabListRepository.findByUserId(userId)).thenReturn(new ArrayList<>());
+        when(vocabListRepository.ensureHistoryList(userId)).thenReturn(created);
 
         // Act
         ResponseEntity<?> response = vocabController.getListsExcludingHistory(userId);
@@ -162,7 +194,123 @@ class VocabControllerTest {
         
         @SuppressWarnings("unchecked")
         Map<String, Object> body = (Map<String, Object>) response.getBody();
-        assertNull(body.get("vocabHistoryId"));
+        assertEquals("historyId", body.get("vocabHistoryId"));
+        assertEquals(List.of(), body.get("lists"));
+    }
+
+    @Test
+    void testGetListsExcludingHistory_UnflaggedListsStayRegular() {
+        // Arrange
+        VocabList newer = new VocabList();
+        newer.setId("newerId");
+        newer.setCreatedAt(LocalDateTime.of(2024, 6, 1, 0, 0));
+        testList.setCreatedAt(LocalDateTime.of(2024, 1, 1, 0, 0));
+        VocabList created = new VocabList();
+        created.setId("historyId");
+        created.setHistory(true);
+        when(vocabListRepository.findByUserId(userId)).thenReturn(new ArrayList<>(List.of(newer, testList)));
+        when(vocabListRepository.ensureHistoryList(userId)).thenReturn(created);
+
+        // Act
+        ResponseEntity<?> response = vocabController.getListsExcludingHistory(userId);
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        Map<String, Object> body = (Map<String, Object>) response.getBody();
+        assertEquals("historyId", body.get("vocabHistoryId"));
+
+        @SuppressWarnings("unchecked")
+        List<VocabList> lists = (List<VocabList>) body.get("lists");
+        assertEquals(List.of(newer, testList), lists);
+        verify(vocabListRepository, times(1)).findByUserId(userId);
+    }
+
+    @Test
+    void testGetListsExcludingHistory_FlagsUnmigratedHistoryList() {
+        // Arrange
+        VocabList legacy = new VocabList();
+        legacy.setId("legacyId");
+        legacy.setListName(VocabList.HISTORY_LIST_NAME);
+        legacy.setCreatedAt(LocalDateTime.of(2023, 1, 1, 0, 0));
+        testList.setCreatedAt(LocalDateTime.of(2024, 1, 1, 0, 0));
+        when(vocabListRepository.findByUserId(userId)).thenReturn(new ArrayList<>(List.of(testList, legacy)));
+
+        // Act
+        ResponseEntity<?> response = vocabController.getListsExcludingHistory(userId);
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        Map<String, Object> body = (Map<String, Object>) response.getBody();
+        assertEquals("legacyId", body.get("vocabHistoryId"));
+        assertEquals(List.of(testList), body.get("lists"));
+        verify(vocabListRepository).markHistory(List.of("legacyId"));
+        verify(vocabListRepository, never()).ensureHistoryList(any());
+    }
+
+    // ==================== LIBRARY TESTS ====================
+
+    private LibraryList libraryList() {
+        LibraryList list = new LibraryList();
+        list.setId(listId);
+        list.setListName("My Vocab List");
+        list.setWordCount(1);
+        LibraryWord word = new LibraryWord();
+        word.setId(testWord.getId());
+        word.setWord(testWord.getWord());
+        word.setDefinition(testWord.getDefinition());
+        word.setCategories("adjective");
+        list.setWords(List.of(word));
+        return list;
+    }
+
+    @Test
+    void testGetLibrary_Success() {
+        // Arrange
+        when(vocabListRepository.findLibrary(userId, 20)).thenReturn(List.of(libraryList()));
+
+        // Act
+        ResponseEntity<?> response = vocabController.getLibrary(userId, 20, false);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> body = (Map<String, Object>) response.getBody();
+
+        @SuppressWarnings("unchecked")
+        List<LibraryList> lists = (List<LibraryList>) body.get("lists");
+        assertEquals(1, lists.size());
+        assertEquals("eloquent", lists.get(0).getWords().get(0).getWord());
+        verifyNoInteractions(wordInListRepository);
+    }
+
+    @Test
+    void testGetLibrary_Streamed() throws Exception {
+        // Arrange
+        when(vocabListRepository.streamLibrary(userId, 5)).thenReturn(Stream.of(libraryList()));
+
+        // Act
+        ResponseEntity<?> response = vocabController.getLibrary(userId, 5, true);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ((StreamingResponseBody) response.getBody()).writeTo(out);
+
+        // Assert
+        JsonNode json = new ObjectMapper().readTree(out.toByteArray());
+        assertEquals(1, json.get("lists").size());
+        assertEquals("My Vocab List", json.get("lists").get(0).get("listName").asText());
+        assertEquals("eloquent", json.get("lists").get(0).get("words").get(0).get("word").asText());
+        assertEquals("adjective", json.get("lists").get(0).get("words").get(0).get("categories").asText());
+        assertFalse(json.get("lists").get(0).get("words").get(0).has("dueAt"));
+    }
+
+    @Test
+    void testGetLibrary_WordsOutOfRange() {
+        // Act
+        ResponseEntity<?> response = vocabController.getLibrary(userId, 0, false);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(vocabListRepository);
     }
 
     // ==================== CREATE LIST TESTS ====================
@@ -273,6 +421,114 @@ class VocabControllerTest {
         assertTrue(words.isEmpty());
     }
 
+    // ==================== GET WORDS PAGE TESTS ====================
+
+    @Test
+    void testGetWordsPage_FirstPageReturnsCursorWhenMoreRemain() {
+        // Arrange
+        WordInList second = new WordInList();
+        second.setId("word790");
+        second.setWord("lucid");
+        testWord.setAddedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+        when(vocabListRepository.findById(listId)).thenReturn(Optional.of(testList));
+        when(wordInListRepository.findPageAfter(userId, listId, null, null, 2))
+                .thenReturn(new ArrayList<>(List.of(testWord, second)));
+
+        // Act
+        ResponseEntity<?> response = vocabController.getWordsPage(userId, listId, null, 1);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> body = (Map<String, Object>) response.getBody();
+        assertEquals("My Vocab List", body.get("listName"));
+
+        @SuppressWarnings("unchecked")
+        List<WordInList> words = (List<WordInList>) body.get("words");
+        assertEquals(1, words.size());
+        assertEquals("eloquent", words.get(0).getWord());
+        assertNotNull(body.get("nextCursor"));
+    }
+
+    @Test
+    void testGetWordsPage_CursorResumesAfterLastWord() {
+        // Arrange
+        LocalDateTime addedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        String cursor = VocabController.WordCursor.encode(addedAt, "word789");
+        when(vocabListRepository.findById(listId)).thenReturn(Optional.of(testList));
+        when(wordInListRepository.findPageAfter(userId, listId, addedAt, "word789", 51))
+                .thenReturn(new ArrayList<>());
+
+        // Act
+        ResponseEntity<?> response = vocabController.getWordsPage(userId, listId, cursor, 50);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> body = (Map<String, Object>) response.getBody();
+        assertNull(body.get("nextCursor"));
+        assertFalse(body.containsKey("listName"));
+    }
+
+    @Test
+    void testGetWordsPage_InvalidCursor() {
+        // Act
+        ResponseEntity<?> response = vocabController.getWordsPage(userId, listId, "not-a-cursor", 50);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(Map.of("error", "Invalid cursor"), response.getBody());
+        verify(wordInListRepository, never()).findPageAfter(any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void testGetWordsPage_LimitOutOfRange() {
+        // Act
+        ResponseEntity<?> response = vocabController.getWordsPage(userId, listId, null, 500);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    void testStreamWordsInList_WritesEveryWord() throws Exception {
+        // Arrange
+        WordInList second = new WordInList();
+        second.setId("word790");
+        second.setWord("lucid");
+        when(vocabListRepository.findById(listId)).thenReturn(Optional.of(testList));
+        when(wordInListRepository.streamByUserIdAndListIdOrderByAddedAtAscIdAsc(userId, listId))
+                .thenReturn(Stream.of(testWord, second));
+
+        // Act
+        ResponseEntity<?> response = vocabController.streamWordsInList(userId, listId);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ((StreamingResponseBody) response.getBody()).writeTo(out);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        JsonNode json = new ObjectMapper().readTree(out.toByteArray());
+        assertEquals("My Vocab List", json.get("listName").asText());
+        assertEquals(2, json.get("words").size());
+        assertEquals("lucid", json.get("words").get(1).get("word").asText());
+    }
+
+    @Test
+    void testGetWordsInList_DeletedListNotFound() {
+        // Arrange
+        testList.setDeletedAt(LocalDateTime.now());
+        when(vocabListRepository.findById(listId)).thenReturn(Optional.of(testList));
+
+        // Act
+        ResponseEntity<?> response = vocabController.getWordsPage(userId, listId, null, 50);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        verifyNoInteractions(wordInListRepository);
+    }
+
     // ==================== ADD WORD TESTS ====================
 
     @Test
@@ -283,10 +539,16 @@ class VocabControllerTest {
         newWord.setListId(listId);
         newWord.setWord("verbose");
         newWord.setDefinition("using or expressed in more words than needed");
+        newWord.setRepetitions(7);
+        newWord.setIntervalDays(120);
+        newWord.setEaseFactor(1.3);
+        newWord.setDueAt(LocalDateTime.now().plusYears(1));
+        newWord.setLastReviewedAt(LocalDateTime.now());
+        newWord.setAddedAt(LocalDateTime.of(2001, 1, 1, 0, 0));
+        newWord.setUpdatedAt(LocalDateTime.now().plusYears(5));
 
-        when(wordInListRepository.findByUserIdAndListIdAndWord(userId, listId, "verbose"))
-                .thenReturn(Optional.empty());
-        when(wordInListRepository.save(any(WordInList.class))).thenReturn(newWord);
+        when(vocabListRepository.findById(listId)).thenReturn(Optional.of(testList));
+        when(wordInListRepository.insert(any(WordInList.class))).thenReturn(newWord);
 
         // Act
         ResponseEntity<?> response = vocabController.addWord(newWord);
@@ -299,14 +561,24 @@ class VocabControllerTest {
         assertEquals("Word saved successfully", body.get("message"));
         assertNotNull(body.get("word"));
 
-        verify(wordInListRepository).save(any(WordInList.class));
+        verify(wordInListRepository).insert(any(WordInList.class));
+        verify(wordInListRepository, never()).findByUserIdAndListIdAndWord(anyString(), anyString(), anyString());
+        assertEquals(0, newWord.getRepetitions());
+        assertEquals(0, newWord.getIntervalDays());
+        assertEquals(2.5, newWord.getEaseFactor());
+        assertFalse(newWord.getDueAt().isAfter(LocalDateTime.now()));
+        assertNull(newWord.getLastReviewedAt());
+        assertTrue(newWord.getAddedAt().getYear() > 2001);
+        assertEquals(newWord.getAddedAt(), newWord.getUpdatedAt());
+        verify(vocabListRepository).recordWordsAdded(listId, 1, newWord.getAddedAt());
     }
 
     @Test
     void testAddWord_DuplicateWord() {
         // Arrange
-        when(wordInListRepository.findByUserIdAndListIdAndWord(userId, listId, "eloquent"))
-                .thenReturn(Optional.of(testWord));
+        when(vocabListRepository.findById(listId)).thenReturn(Optional.of(testList));
+        when(wordInListRepository.insert(any(WordInList.class)))
+                .thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
 
         // Act
         ResponseEntity<?> response = vocabController.addWord(testWord);
@@ -318,16 +590,151 @@ class VocabControllerTest {
         Map<String, String> body = (Map<String, String>) response.getBody();
         assertEquals("This word already exists in this list", body.get("error"));
 
+        verify(wordInListRepository).insert(any(WordInList.class));
+        verify(wordInListRepository, never()).save(any(WordInList.class));
+        verify(vocabListRepository, never()).recordWordsAdded(anyString(), anyInt(), any());
+    }
+
+    @Test
+    void testAddWord_RepositoryThrowsException() {
+        // Arrange
+        when(vocabListRepository.findById(listId)).thenReturn(Optional.of(testList));
+        when(wordInListRepository.insert(any(WordInList.class))).thenThrow(new RuntimeException("Database error"));
+
+        // Act
+        ResponseEntity<?> response = vocabController.addWord(testWord);
+
+        // Assert
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+    }
+
+    @Test
+    void testAddWord_DeletedList() {
+        // Arrange
+        testList.setDeletedAt(LocalDateTime.now());
+        when(vocabListRepository.findById(listId)).thenReturn(Optional.of(testList));
+
+        // Act
+        ResponseEntity<?> response = vocabController.addWord(testWord);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        verify(wordInListRepository, never()).insert(any(WordInList.class));
+    }
+
+    // ==================== BULK ADD WORDS TESTS ====================
+
+    private WordInList wordFor(String word) {
+        WordInList entry = new WordInList();
+        entry.setUserId(userId);
+        entry.setListId(listId);
+        entry.setWord(word);
+        return entry;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> statuses(ResponseEntity<?> response) {
+        Map<String, Object> body = (Map<String, Object>) response.getBody();
+        List<Map<String, Object>> results = (List<Map<String, Object>>) body.get("results");
+        List<String> statuses = new ArrayList<>();
+        for (Map<String, Object> result : results) {
+            statuses.add((String) result.get("status"));
+        }
+        return statuses;
+    }
+
+    @Test
+    void testAddWords_ReportsPerWordOutcomes() {
+        // Arrange
+        when(vocabListRepository.findById(listId)).thenReturn(Optional.of(testList));
+        WordInList missingWord = wordFor(" ");
+        List<WordInList> words = Arrays.asList(wordFor("eloquent"), wordFor("lucid"), wordFor("lucid"),
+                missingWord, wordFor("terse"));
+        words.get(1).setAddedAt(LocalDateTime.of(2001, 1, 1, 0, 0));
+        when(wordInListRepository.findByUserIdAndListIdAndWordIn(eq(userId), eq(listId), anyCollection()))
+                .thenReturn(List.of(testWord));
+        when(wordInListRepository.insertUnordered(anyList())).thenReturn(BulkInsertResult.allInserted(2));
+
+        // Act
+        ResponseEntity<?> response = vocabController.addWords(words);
+
+        // Assert
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(List.of("duplicate", "added", "duplicate", "invalid", "added"), statuses(response));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<WordInList>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(wordInListRepository).insertUnordered(inserted.capture());
+        assertEquals(2, inserted.getValue().size());
+        assertNotNull(inserted.getValue().get(0).getId());
+        assertTrue(inserted.getValue().get(0).getAddedAt().getYear() > 2001);
+        assertEquals(inserted.getValue().get(0).getAddedAt(), inserted.getValue().get(1).getUpdatedAt());
+        verify(vocabListRepository).recordWordsAdded(eq(listId), eq(2), any(LocalDateTime.class));
         verify(wordInListRepository, never()).save(any(WordInList.class));
     }
 
+    @Test
+    void testAddWords_DuplicateFromConcurrentInsert() {
+        // Arrange
+        when(vocabListRepository.findById(listId)).thenReturn(Optional.of(testList));
+        when(wordInListRepository.findByUserIdAndListIdAndWordIn(eq(userId), eq(listId), anyCollection()))
+                .thenReturn(new ArrayList<>());
+        when(wordInListRepository.insertUnordered(anyList()))
+                .thenReturn(new BulkInsertResult(1, Set.of(1)));
+
+        // Act
+        ResponseEntity<?> response = vocabController.addWords(List.of(wordFor("lucid"), wordFor("terse")));
+
+        // Assert
+        assertEquals(List.of("added", "duplicate"), statuses(response));
+    }
+
+    @Test
+    void testAddWords_AllDuplicatesSkipsInsert() {
+        // Arrange
+        when(vocabListRepository.findById(listId)).thenReturn(Optional.of(testList));
+        when(wordInListRepository.findByUserIdAndListIdAndWordIn(eq(userId), eq(listId), anyCollection()))
+                .thenReturn(List.of(testWord));
+
+        // Act
+        ResponseEntity<?> response = vocabController.addWords(List.of(wordFor("eloquent")));
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(wordInListRepository, never()).insertUnordered(anyList());
+    }
+
+    @Test
+    void testAddWords_DeletedList() {
+        // Arrange
+        testList.setDeletedAt(LocalDateTime.now());
+        when(vocabListRepository.findById(listId)).thenReturn(Optional.of(testList));
+
+        // Act
+        ResponseEntity<?> response = vocabController.addWords(List.of(wordFor("lucid")));
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        verifyNoInteractions(wordInListRepository);
+    }
+
+    @Test
+    void testAddWords_EmptyRequest() {
+        // Act
+        ResponseEntity<?> response = vocabController.addWords(new ArrayList<>());
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(wordInListRepository);
+    }
+
     // ==================== DELETE WORD TESTS ====================
 
     @Test
     void testDeleteWord_Success() {
         // Arrange
         String wordId = "word789";
-        doNothing().when(wordInListRepository).deleteById(wordId);
+        when(wordInListRepository.removeById(wordId, null)).thenReturn(testWord);
 
         // Act
         ResponseEntity<?> response = vocabController.deleteWord(wordId);
@@ -339,14 +746,30 @@ class VocabControllerTest {
         Map<String, String> body = (Map<String, String>) response.getBody();
         assertEquals("Word deleted successfully", body.get("message"));
 
-        verify(wordInListRepository).deleteById(wordId);
+        verify(wordInListRepository).removeById(wordId, null);
+        verify(vocabListRepository).recordWordRemoved(listId);
+        verify(tombstoneRepository).save(argThat(tombstone -> Tombstone.TYPE_WORD.equals(tombstone.getType())
+                && "word789".equals(tombstone.getTargetId()) && userId.equals(tombstone.getUserId())));
+    }
+
+    @Test
+    void testDeleteWord_AlreadyGoneLeavesCountAlone() {
+        // Arrange
+        when(wordInListRepository.removeById("missing", null)).thenReturn(null);
+
+        // Act
+        ResponseEntity<?> response = vocabController.deleteWord("missing");
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(vocabListRepository, never()).recordWordRemoved(anyString());
     }
 
     @Test
     void testDeleteWord_RepositoryThrowsException() {
         // Arrange
         String wordId = "word789";
-        doThrow(new RuntimeException("Database error")).when(wordInListRepository).deleteById(wordId);
+        when(wordInListRepository.removeById(wordId, null)).thenThrow(new RuntimeException("Database error"));
 
         // Act
         ResponseEntity<?> response = vocabController.deleteWord(wordId);
@@ -368,8 +791,10 @@ class VocabControllerTest {
         updatedWord.setWord("eloquent");
         updatedWord.setDefinition("Updated definition");
 
-        when(wordInListRepository.findById("word789")).thenReturn(Optional.of(testWord));
-        when(wordInListRepository.save(any(WordInList.class))).thenReturn(testWord);
+        updatedWord.setRepetitions(9);
+        updatedWord.setDueAt(LocalDateTime.now().plusYears(1));
+
+        when(wordInListRepository.updateText("word789", null, "eloquent", "Updated definition")).thenReturn(testWord);
 
         // Act
         ResponseEntity<?> response = vocabController.updateWord("word789", updatedWord);
@@ -380,9 +805,10 @@ class VocabControllerTest {
         @SuppressWarnings("unchecked")
         Map<String, Object> body = (Map<String, Object>) response.getBody();
         assertEquals("Word updated successfully", body.get("message"));
-        assertNotNull(body.get("word"));
+        assertSame(testWord, body.get("word"));
 
-        verify(wordInListRepository).save(any(WordInList.class));
+        verify(wordInListRepository).updateText("word789", null, "eloquent", "Updated definition");
+        verify(wordInListRepository, never()).save(any(WordInList.class));
     }
 
     @Test
@@ -392,15 +818,13 @@ class VocabControllerTest {
         updatedWord.setWord("eloquent");
         updatedWord.setDefinition("Updated definition");
 
-        when(wordInListRepository.findById("word789")).thenReturn(Optional.empty());
+        when(wordInListRepository.updateText("word789", null, "eloquent", "Updated definition")).thenReturn(null);
 
         // Act
         ResponseEntity<?> response = vocabController.updateWord("word789", updatedWord);
 
         // Assert
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
-
-        verify(wordInListRepository, never()).save(any(WordInList.class));
     }
 
     @Test
@@ -410,8 +834,7 @@ class VocabControllerTest {
         updatedWord.setWord("eloquent");
         updatedWord.setDefinition("Updated definition");
 
-        when(wordInListRepository.findById("word789")).thenReturn(Optional.of(testWord));
-        when(wordInListRepository.save(any(WordInList.class)))
+        when(wordInListRepository.updateText("word789", null, "eloquent", "Updated definition"))
                 .thenThrow(new RuntimeException("Database error"));
 
         // Act
@@ -424,4 +847,160 @@ class VocabControllerTest {
         Map<String, String> body = (Map<String, String>) response.getBody();
         assertEquals("Failed to update word", body.get("error"));
     }
-}
\ No newline at end of file
+
+    // ==================== DELETE LIST TESTS ====================
+
+    @Test
+    void testDeleteList_TombstonesAndAccepts() {
+        // Arrange
+        when(vocabListRepository.findById(listId)).thenReturn(Optional.of(testList));
+        when(vocabListRepository.markDeleted(listId)).thenReturn(true);
+
+        // Act
+        ResponseEntity<?> response = vocabController.deleteList(userId, listId);
+
+        // Assert
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        verify(vocabListRepository).markDeleted(listId);
+        verify(tombstoneRepository).save(argThat(tombstone -> Tombstone.TYPE_LIST.equals(tombstone.getType())
+                && listId.equals(tombstone.getTargetId())));
+        verify(vocabListRepository, never()).deleteById(anyString());
+        verifyNoInteractions(wordInListRepository);
+    }
+
+    @Test
+    void testDeleteList_NotOwner() {
+        // Arrange
+        when(vocabListRepository.findById(listId)).thenReturn(Optional.of(testList));
+
+        // Act
+        ResponseEntity<?> response = vocabController.deleteList("someoneElse", listId);
+
+        // Assert
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+        verify(vocabListRepository, never()).markDeleted(anyString());
+    }
+
+    @Test
+    void testDeleteList_NotFound() {
+        // Arrange
+        when(vocabListRepository.findById(listId)).thenReturn(Optional.empty());
+
+        // Act
+        ResponseEntity<?> response = vocabController.deleteList(userId, listId);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        verify(vocabListRepository, never()).markDeleted(anyString());
+    }
+
+    @Test
+    void testGetListDeletionStatus_ReportsRemainingWords() {
+        // Arrange
+        testList.setDeletedAt(LocalDateTime.now());
+        when(vocabListRepository.findById(listId)).thenReturn(Optional.of(testList));
+        when(wordInListRepository.countByListId(listId)).thenReturn(1200L);
+
+        // Act
+        ResponseEntity<?> response = vocabController.getListDeletionStatus(userId, listId);
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        Map<String, Object> body = (Map<String, Object>) response.getBody();
+        assertEquals("deleting", body.get("status"));
+        assertEquals(1200L, body.get("wordsRemaining"));
+    }
+
+    @Test
+    void testGetListDeletionStatus_Finished() {
+        // Arrange
+        when(vocabListRepository.findById(listId)).thenReturn(Optional.empty());
+
+        // Act
+        ResponseEntity<?> response = vocabController.getListDeletionStatus(userId, listId);
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        Map<String, Object> body = (Map<String, Object>) response.getBody();
+        assertEquals("deleted", body.get("status"));
+    }
+
+    // ==================== AUTHORIZATION TESTS ====================
+
+    private static void authenticateAs(String tokenUserId) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(TokenAuthenticationFilter.USER_ID_ATTRIBUTE, tokenUserId);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void clearRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void testGetAllLists_OtherUsersToken() {
+        // Arrange
+        authenticateAs("someoneElse");
+
+        // Act
+        ResponseEntity<?> response = vocabController.getAllLists(userId);
+
+        // Assert
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+        verifyNoInteractions(vocabListRepository);
+    }
+
+    @Test
+    void testGetAllLists_OwnToken() {
+        // Arrange
+        authenticateAs(userId);
+        when(vocabListRepository.findByUserId(userId)).thenReturn(new ArrayList<>(List.of(testList)));
+
+        // Act
+        ResponseEntity<?> response = vocabController.getAllLists(userId);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+    }
+
+    @Test
+    void testAddWord_OtherUsersToken() {
+        // Arrange
+        authenticateAs("someoneElse");
+
+        // Act
+        ResponseEntity<?> response = vocabController.addWord(testWord);
+
+        // Assert
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+        verifyNoInteractions(wordInListRepository);
+    }
+
+    @Test
+    void testAddWord_ListOwnedByAnotherUser() {
+        // Arrange
+        testList.setUserId("someoneElse");
+        when(vocabListRepository.findById(listId)).thenReturn(Optional.of(testList));
+
+        // Act
+        ResponseEntity<?> response = vocabController.addWord(testWord);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        verify(wordInListRepository, never()).insert(any(WordInList.class));
+    }
+
+    @Test
+    void testDeleteWord_ScopedToTokenUser() {
+        // Arrange
+        authenticateAs(userId);
+
+        // Act
+        ResponseEntity<?> response = vocabController.deleteWord("word789");
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(wordInListRepository).removeById("word789", userId);
+    }
+}
@@ -0,0 +1,131 @@
+package com.vocab.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vocab.model.Dictionary;
+import com.vocab.repository.BulkInsertResult;
+import com.vocab.repository.DictionaryRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DictionaryImporterTest {
+
+    @Mock
+    private DictionaryRepository dictionaryRepository;
+
+    @Mock
+    private DictionaryIndexLoader dictionaryIndexLoader;
+
+    @Mock
+    private DictionaryLookupCache dictionaryLookupCache;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private DictionaryImporter dictionaryImporter;
+
+    @Test
+    void testImportNdjson_BatchesDedupesAndRebuildsOnce() throws Exception {
+        // Arrange
+        String body = String.join("\n",
+                "{\"word\":\"Alpha\",\"shortdef\":\"first\"}",
+                "{\"word\":\"beta\",\"shortdef\":\"second\"}",
+                "{\"word\":\"ALPHA\",\"shortdef\":\"again\"}",
+                "not json",
+                "{\"shortdef\":\"no word\"}",
+                "",
+                "{\"word\":\"gamma\"}",
+                "{\"word\":\"delta\"}");
+        Dictionary alpha = new Dictionary();
+        alpha.setWord("alpha");
+        Dictionary gamma = new Dictionary();
+        gamma.setWord("gamma");
+        when(dictionaryRepository.findByWordIn(anyCollection()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(alpha, gamma));
+        when(dictionaryRepository.insertUnordered(anyList()))
+                .thenAnswer(invocation -> BulkInsertResult.allInserted(((List<?>) invocation.getArgument(0)).size()));
+
+        // Act
+        DictionaryImporter.Summary summary = dictionaryImporter.importWords(stream(body), DictionaryImporter.FORMAT_NDJSON, 2);
+
+        // Assert
+        assertEquals(7, summary.getReceived());
+        assertEquals(3, summary.getInserted());
+        assertEquals(2, summary.getDuplicates());
+        assertEquals(2, summary.getRejected());
+        assertEquals(2, summary.getBatches());
+        assertEquals(4, summary.getRejects().get(0).get("line"));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Dictionary>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(dictionaryRepository, times(2)).insertUnordered(inserted.capture());
+        assertEquals("alpha", inserted.getAllValues().get(0).get(0).getWord());
+        assertEquals("delta", inserted.getAllValues().get(1).get(0).getWord());
+        verify(dictionaryIndexLoader, times(1)).reload();
+        verify(dictionaryLookupCache, times(1)).clear();
+    }
+
+    @Test
+    void testImportCsv_QuotedFieldsAndRaceDuplicates() throws Exception {
+        // Arrange
+        String body = "word,partOfSpeech,shortdef\n"
+                + "Serene,adjective,\"calm, peaceful, and \"\"untroubled\"\"\"\n"
+                + "tranquil,adjective,free from disturbance\n";
+        when(dictionaryRepository.findByWordIn(anyCollection())).thenReturn(List.of());
+        when(dictionaryRepository.insertUnordered(anyList())).thenReturn(new BulkInsertResult(1, Set.of(1)));
+
+        // Act
+        DictionaryImporter.Summary summary = dictionaryImporter.importWords(stream(body), DictionaryImporter.FORMAT_CSV, null);
+
+        // Assert
+        assertEquals(2, summary.getReceived());
+        assertEquals(1, summary.getInserted());
+        assertEquals(1, summary.getDuplicates());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Dictionary>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(dictionaryRepository).insertUnordered(inserted.capture());
+        Dictionary serene = inserted.getValue().get(0);
+        assertEquals("serene", serene.getWord());
+        assertEquals("adjective", serene.getPartOfSpeech());
+        assertEquals("calm, peaceful, and \"untroubled\"", serene.getShortdef());
+    }
+
+    @Test
+    void testImport_NothingInsertedSkipsRebuild() throws Exception {
+        // Act
+        DictionaryImporter.Summary summary = dictionaryImporter.importWords(stream("oops\n"), DictionaryImporter.FORMAT_NDJSON, null);
+
+        // Assert
+        assertEquals(1, summary.getRejected());
+        verify(dictionaryRepository, never()).insertUnordered(anyList());
+        verify(dictionaryIndexLoader, never()).reload();
+    }
+
+    @Test
+    void testSplitCsv_EmptyAndQuotedFields() {
+        assertEquals(Arrays.asList("a", "", "b,c"), DictionaryImporter.splitCsv("a,,\"b,c\""));
+    }
+
+    private InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,101 @@
+package com.vocab.service;
+
+import com.vocab.model.Dictionary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DictionarySearchIndexTest {
+
+    private DictionarySearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new DictionarySearchIndex();
+        searchIndex.rebuild(Arrays.asList(
+                entry("acrophobia", "an abnormal fear of heights", "psychology", "noun"),
+                entry("vertigo", "a dizzy confused state of mind, often at heights", "medicine", "noun"),
+                entry("timid", "lacking in courage; easily frightened and fearing strangers", "general", "adjective"),
+                entry("fearless", "free from fear", "general", "adjective")));
+    }
+
+    @Test
+    void testSearch_RanksAllTermMatchesFirst() {
+        List<DictionarySearchIndex.Hit> hits = searchIndex.search("fear of heights", null, null, 10);
+
+        assertEquals("acrophobia", hits.get(0).getEntry().getWord());
+        assertEquals(4, hits.size());
+        for (int i = 1; i < hits.size(); i++) {
+            assertTrue(hits.get(i - 1).getScore() >= hits.get(i).getScore());
+        }
+    }
+
+    @Test
+    void testSearch_StemmedTermsMatch() {
+        List<DictionarySearchIndex.Hit> hits = searchIndex.search("feared", null, "adjective", 10);
+
+        assertEquals(2, hits.size());
+        assertTrue(hits.stream().allMatch(hit -> "adjective".equals(hit.getEntry().getPartOfSpeech())));
+    }
+
+    @Test
+    void testSearch_CategoryFilterAndLimit() {
+        List<DictionarySearchIndex.Hit> hits = searchIndex.search("heights", "MEDICINE", null, 1);
+
+        assertEquals(1, hits.size());
+        assertEquals("vertigo", hits.get(0).getEntry().getWord());
+    }
+
+    @Test
+    void testSearch_RepeatedQueriesDoNotLeakScores() {
+        float first = searchIndex.search("heights", null, null, 10).get(0).getScore();
+        float second = searchIndex.search("heights", null, null, 10).get(0).getScore();
+
+        assertEquals(first, second);
+    }
+
+    @Test
+    void testAdd_NewEntryIsSearchable() {
+        searchIndex.add(entry("agoraphobia", "fear of open or crowded places", "psychology", "noun"));
+
+        List<DictionarySearchIndex.Hit> hits = searchIndex.search("crowded places", null, null, 10);
+        assertEquals("agoraphobia", hits.get(0).getEntry().getWord());
+    }
+
+    @Test
+    void testTokenize_DropsStopWordsAndStems() {
+        assertEquals(Arrays.asList("fear", "height"), DictionarySearchIndex.tokenize("A word for Fears of heights!"));
+    }
+
+    @Test
+    void testSearch_ResolvesHitsFromMappedSnapshot(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("words.snapshot");
+        DictionarySnapshot.write(file, Arrays.asList(
+                entry("acrophobia", "an abnormal fear of heights", "psychology", "noun"),
+                entry("timid", "easily frightened", "general", "adjective")), "2:x");
+        DictionarySearchIndex mappedIndex = new DictionarySearchIndex();
+        mappedIndex.rebuild(DictionarySnapshot.open(file).entries());
+        mappedIndex.add(entry("heightened", "raised to a greater height", "general", "adjective"));
+
+        List<DictionarySearchIndex.Hit> hits = mappedIndex.search("heights", null, null, 10);
+
+        assertEquals(List.of("acrophobia", "heightened"), hits.stream().map(hit -> hit.getEntry().getWord()).toList());
+        assertEquals("an abnormal fear of heights", hits.get(0).getEntry().getShortdef());
+        assertEquals(1, mappedIndex.search("heights", "psychology", "noun", 10).size());
+    }
+
+    private Dictionary entry(String word, String shortdef, String category, String partOfSpeech) {
+        Dictionary dictionary = new Dictionary();
+        dictionary.setWord(word);
+        dictionary.setShortdef(shortdef);
+        dictionary.setCategory(category);
+        dictionary.setPartOfSpeech(partOfSpeech);
+        return dictionary;
+    }
+}
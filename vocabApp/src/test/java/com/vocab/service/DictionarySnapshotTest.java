@@ -0,0 +1,217 @@
+package com.vocab.service;
+
+import com.vocab.model.Dictionary;
+import com.vocab.repository.DictionaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DictionarySnapshotTest {
+
+    @Mock
+    private DictionaryRepository dictionaryRepository;
+
+    @Mock
+    private DictionaryLookupCache dictionaryLookupCache;
+
+    @InjectMocks
+    private DictionarySnapshot dictionarySnapshot;
+
+    @TempDir
+    Path directory;
+
+    private List<Dictionary> words;
+
+    @BeforeEach
+    void setUp() {
+        words = Arrays.asList(
+                entry("id3", "zebra", "a striped animal", "animals", "noun"),
+                entry("id1", "apple", "a fruit", null, "noun"),
+                entry("id2", "éclair", "a pastry", "food", null),
+                entry("id4", "apple", "duplicate entry", null, null),
+                entry("id5", "mango", "another fruit", "food", "noun"));
+        ReflectionTestUtils.setField(dictionarySnapshot, "path", directory.resolve("dictionary.snapshot").toString());
+    }
+
+    @Test
+    void testWriteAndOpen_FindsEveryWordInByteOrder() throws Exception {
+        Path file = directory.resolve("words.snapshot");
+        DictionarySnapshot.write(file, words, "4:id5");
+
+        DictionarySnapshot.Mapping mapping = DictionarySnapshot.open(file);
+
+        assertNotNull(mapping);
+        assertEquals("4:id5", mapping.stamp());
+        assertEquals(4, mapping.count());
+        List<Dictionary> decoded = mapping.entries();
+        assertEquals(Arrays.asList("apple", "mango", "zebra", "éclair"),
+                decoded.stream().map(Dictionary::getWord).toList());
+        assertEquals("a fruit", decoded.get(0).getShortdef());
+        assertNull(decoded.get(0).getCategory());
+        assertEquals("id2", decoded.get(3).getId());
+    }
+
+    @Test
+    void testOpen_MissingOrCorruptFile() throws Exception {
+        assertNull(DictionarySnapshot.open(directory.resolve("missing.snapshot")));
+
+        Path corrupt = directory.resolve("corrupt.snapshot");
+        Files.write(corrupt, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12 });
+        assertNull(DictionarySnapshot.open(corrupt));
+    }
+
+    @Test
+    void testOpen_RejectsTruncatedOrBadOffsets() throws Exception {
+        Path file = directory.resolve("words.snapshot");
+        DictionarySnapshot.write(file, words, "4:id5");
+        byte[] bytes = Files.readAllBytes(file);
+
+        Path truncated = directory.resolve("truncated.snapshot");
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 3));
+        assertNull(DictionarySnapshot.open(truncated));
+
+        // first offset (right after magic, stamp length, stamp and count) pointed past the end
+        byte[] badOffset = bytes.clone();
+        int offsetsStart = 12 + "4:id5".length();
+        badOffset[offsetsStart] = 0x7f;
+        Path bad = directory.resolve("bad.snapshot");
+        Files.write(bad, badOffset);
+        assertNull(DictionarySnapshot.open(bad));
+
+        byte[] hugeCount = bytes.clone();
+        hugeCount[8 + "4:id5".length()] = 0x7f;
+        Path huge = directory.resolve("huge.snapshot");
+        Files.write(huge, hugeCount);
+        assertNull(DictionarySnapshot.open(huge));
+    }
+
+    @Test
+    void testRefresh_BuildsThenServesLookups() throws Exception {
+        when(dictionaryRepository.count()).thenReturn(5L);
+        when(dictionaryRepository.findFirstByOrderByIdDesc()).thenReturn(words.get(4));
+        when(dictionaryRepository.findAll()).thenReturn(words);
+
+        List<Dictionary> loaded = dictionarySnapshot.refresh();
+
+        assertInstanceOf(DictionarySnapshot.MappedEntries.class, loaded);
+        assertEquals(4, loaded.size());
+        assertTrue(dictionarySnapshot.isLoaded());
+        assertEquals(4, dictionarySnapshot.size());
+        assertEquals("a striped animal", dictionarySnapshot.find("zebra").getShortdef());
+        assertEquals("a pastry", dictionarySnapshot.find("éclair").getShortdef());
+        assertNull(dictionarySnapshot.find("appl"));
+        assertNull(dictionarySnapshot.find("zzz"));
+        assertEquals("apple", dictionarySnapshot.get(0).getWord());
+        assertNull(dictionarySnapshot.get(4));
+    }
+
+    @Test
+    void testRefresh_ReusesCurrentFileWithoutFullRead() throws Exception {
+        when(dictionaryRepository.count()).thenReturn(5L);
+        when(dictionaryRepository.findFirstByOrderByIdDesc()).thenReturn(words.get(4));
+        when(dictionaryRepository.findAll()).thenReturn(words);
+        dictionarySnapshot.refresh();
+
+        List<Dictionary> reloaded = dictionarySnapshot.refresh();
+
+        assertEquals(4, reloaded.size());
+        verify(dictionaryRepository, times(1)).findAll();
+    }
+
+    @Test
+    void testRefresh_RebuildsWhenStampChanges() throws Exception {
+        when(dictionaryRepository.findFirstByOrderByIdDesc()).thenReturn(words.get(4));
+        when(dictionaryRepository.count()).thenReturn(5L, 6L);
+        when(dictionaryRepository.findAll()).thenReturn(words);
+        dictionarySnapshot.refresh();
+
+        dictionarySnapshot.refresh();
+
+        verify(dictionaryRepository, times(2)).findAll();
+    }
+
+    @Test
+    void testRefresh_RebuildsWhenAnEntryIsEditedInPlace() throws Exception {
+        Dictionary edited = entry("id1", "apple", "a fruit", null, "noun");
+        edited.setUpdatedAt(LocalDateTime.of(2026, 1, 1, 0, 0));
+        Dictionary editedAgain = entry("id1", "apple", "a red fruit", null, "noun");
+        editedAgain.setUpdatedAt(LocalDateTime.of(2026, 1, 2, 0, 0));
+        when(dictionaryRepository.count()).thenReturn(5L);
+        when(dictionaryRepository.findFirstByOrderByIdDesc()).thenReturn(words.get(4));
+        when(dictionaryRepository.findFirstByOrderByUpdatedAtDesc()).thenReturn(edited, editedAgain);
+        when(dictionaryRepository.findAll()).thenReturn(words);
+        dictionarySnapshot.refresh();
+
+        dictionarySnapshot.refresh();
+
+        verify(dictionaryRepository, times(2)).findAll();
+    }
+
+    @Test
+    void testInvalidate_StopsServingEditedWord() throws Exception {
+        when(dictionaryRepository.count()).thenReturn(5L);
+        when(dictionaryRepository.findFirstByOrderByIdDesc()).thenReturn(words.get(4));
+        when(dictionaryRepository.findAll()).thenReturn(words);
+        dictionarySnapshot.refresh();
+
+        dictionarySnapshot.invalidate("zebra");
+
+        assertNull(dictionarySnapshot.find("zebra"));
+        assertNotNull(dictionarySnapshot.find("mango"));
+    }
+
+    @Test
+    void testPollChanges_InvalidatesWordsEditedElsewhere() throws Exception {
+        LocalDateTime built = LocalDateTime.of(2026, 1, 1, 0, 0);
+        Dictionary lastWritten = entry("id1", "apple", "a fruit", null, "noun");
+        lastWritten.setUpdatedAt(built);
+        Dictionary editedElsewhere = entry(null, "zebra", null, null, null);
+        editedElsewhere.setUpdatedAt(built.plusHours(1));
+        Dictionary addedElsewhere = entry(null, "kiwi", null, null, null);
+        addedElsewhere.setUpdatedAt(built.plusHours(1));
+        when(dictionaryRepository.count()).thenReturn(5L);
+        when(dictionaryRepository.findFirstByOrderByIdDesc()).thenReturn(words.get(4));
+        when(dictionaryRepository.findFirstByOrderByUpdatedAtDesc()).thenReturn(lastWritten);
+        when(dictionaryRepository.findAll()).thenReturn(words);
+        when(dictionaryRepository.findWrittenAfter(built.minusMinutes(1)))
+                .thenReturn(List.of(editedElsewhere, addedElsewhere));
+        dictionarySnapshot.refresh();
+
+        int stale = dictionarySnapshot.pollChanges();
+
+        assertEquals(1, stale);
+        assertNull(dictionarySnapshot.find("zebra"));
+        assertNotNull(dictionarySnapshot.find("mango"));
+        verify(dictionaryLookupCache).invalidate("zebra");
+        verify(dictionaryLookupCache, never()).invalidate("kiwi");
+
+        // the next poll starts from the latest write it saw, less the overlap
+        dictionarySnapshot.pollChanges();
+        verify(dictionaryRepository).findWrittenAfter(built.plusHours(1).minusMinutes(1));
+    }
+
+    private Dictionary entry(String id, String word, String shortdef, String category, String partOfSpeech) {
+        Dictionary dictionary = new Dictionary();
+        dictionary.setId(id);
+        dictionary.setWord(word);
+        dictionary.setShortdef(shortdef);
+        dictionary.setCategory(category);
+        dictionary.setPartOfSpeech(partOfSpeech);
+        return dictionary;
+    }
+}
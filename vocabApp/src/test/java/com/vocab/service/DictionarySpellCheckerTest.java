@@ -0,0 +1,85 @@
+package com.vocab.service;
+
+import com.vocab.model.Dictionary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DictionarySpellCheckerTest {
+
+    private DictionarySpellChecker spellChecker;
+
+    @BeforeEach
+    void setUp() {
+        spellChecker = new DictionarySpellChecker();
+        List<Dictionary> words = new ArrayList<>();
+        for (String value : Arrays.asList("receive", "recipe", "believe", "abbreviation", "abbreviations")) {
+            Dictionary dictionary = new Dictionary();
+            dictionary.setWord(value);
+            words.add(dictionary);
+        }
+        spellChecker.rebuild(words);
+    }
+
+    @Test
+    void testLookup_Transposition() {
+        List<DictionarySpellChecker.Suggestion> result = spellChecker.lookup("recieve", 5);
+
+        assertEquals("receive", result.get(0).getWord());
+        assertEquals(1, result.get(0).getDistance());
+    }
+
+    @Test
+    void testLookup_SortedByDistanceThenWord() {
+        List<DictionarySpellChecker.Suggestion> result = spellChecker.lookup("reciev", 5);
+
+        assertEquals(Arrays.asList("receive", "recipe"), words(result));
+        assertEquals(2, result.get(0).getDistance());
+        assertEquals(2, result.get(1).getDistance());
+
+        result = spellChecker.lookup("beleive", 5);
+        assertEquals(Arrays.asList("believe", "receive"), words(result));
+        assertEquals(1, result.get(0).getDistance());
+        assertEquals(2, result.get(1).getDistance());
+    }
+
+    @Test
+    void testLookup_TypoPastIndexedPrefix() {
+        List<DictionarySpellChecker.Suggestion> result = spellChecker.lookup("abbreviatoin", 5);
+
+        assertEquals(Arrays.asList("abbreviation", "abbreviations"), words(result));
+    }
+
+    @Test
+    void testLookup_TooFarAway() {
+        assertTrue(spellChecker.lookup("xyzzy", 5).isEmpty());
+    }
+
+    @Test
+    void testAdd_NewWordFound() {
+        Dictionary dictionary = new Dictionary();
+        dictionary.setWord("deceive");
+        spellChecker.add(dictionary);
+
+        assertTrue(words(spellChecker.lookup("decieve", 5)).contains("deceive"));
+    }
+
+    @Test
+    void testDistance_StopsPastMax() {
+        assertEquals(3, DictionarySpellChecker.distance("kitten", "sitting", 2));
+        assertEquals(0, DictionarySpellChecker.distance("same", "same", 2));
+    }
+
+    private List<String> words(List<DictionarySpellChecker.Suggestion> suggestions) {
+        List<String> words = new ArrayList<>();
+        for (DictionarySpellChecker.Suggestion suggestion : suggestions) {
+            words.add(suggestion.getWord());
+        }
+        return words;
+    }
+}
@@ -0,0 +1,66 @@
+package com.vocab.service;
+
+import com.vocab.model.Dictionary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DictionarySuggesterTest {
+
+    private DictionarySuggester suggester;
+
+    @BeforeEach
+    void setUp() {
+        suggester = new DictionarySuggester();
+        List<Dictionary> words = new ArrayList<>();
+        for (String value : Arrays.asList("cat", "catalog", "category", "cater", "dog", "Catch")) {
+            words.add(word(value));
+        }
+        suggester.rebuild(words);
+    }
+
+    @Test
+    void testSuggest_AlphabeticalWithoutLookups() {
+        assertEquals(Arrays.asList("cat", "catalog", "catch"), suggester.suggest("cat", 3));
+    }
+
+    @Test
+    void testSuggest_PopularWordsFirst() {
+        suggester.recordLookup("cater");
+        suggester.recordLookup("cater");
+        suggester.recordLookup("category");
+
+        assertEquals(Arrays.asList("cater", "category", "cat"), suggester.suggest("CAT", 3));
+    }
+
+    @Test
+    void testSuggest_UnknownPrefix() {
+        assertTrue(suggester.suggest("zebra", 5).isEmpty());
+    }
+
+    @Test
+    void testAdd_NewWordIsSuggested() {
+        suggester.add(word("doghouse"));
+
+        assertEquals(Arrays.asList("dog", "doghouse"), suggester.suggest("do", 5));
+        assertEquals(7, suggester.size());
+    }
+
+    @Test
+    void testAdd_DuplicateIgnored() {
+        suggester.add(word("dog"));
+
+        assertEquals(6, suggester.size());
+    }
+
+    private Dictionary word(String value) {
+        Dictionary dictionary = new Dictionary();
+        dictionary.setWord(value);
+        return dictionary;
+    }
+}
@@ -0,0 +1,91 @@
+package com.vocab.service;
+
+import com.vocab.model.VocabList;
+import com.vocab.repository.VocabListRepository;
+import com.vocab.repository.WordInListRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ListPurgeWorkerTest {
+
+    @Mock
+    private VocabListRepository vocabListRepository;
+
+    @Mock
+    private WordInListRepository wordInListRepository;
+
+    @InjectMocks
+    private ListPurgeWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(worker, "batchSize", 2);
+        ReflectionTestUtils.setField(worker, "pauseMillis", 0L);
+    }
+
+    @Test
+    void purgeRemovesWordsInBatchesThenTheList() throws Exception {
+        when(wordInListRepository.deleteBatchByListId("list", 2)).thenReturn(2L, 2L, 1L, 0L);
+        when(vocabListRepository.extendPurgeClaim(eq("list"), anyString(), any())).thenReturn(true);
+
+        assertTrue(worker.purge("list"));
+
+        InOrder order = inOrder(wordInListRepository, vocabListRepository);
+        order.verify(wordInListRepository, times(4)).deleteBatchByListId("list", 2);
+        order.verify(vocabListRepository).deleteById("list");
+        verify(vocabListRepository, times(3)).extendPurgeClaim(eq("list"), anyString(), any());
+    }
+
+    @Test
+    void purgeStopsWhenAnotherInstanceTookTheClaim() throws Exception {
+        when(wordInListRepository.deleteBatchByListId("list", 2)).thenReturn(2L);
+        when(vocabListRepository.extendPurgeClaim(eq("list"), anyString(), any())).thenReturn(false);
+
+        assertFalse(worker.purge("list"));
+
+        verify(wordInListRepository, times(1)).deleteBatchByListId("list", 2);
+        verify(vocabListRepository, never()).deleteById(anyString());
+    }
+
+    @Test
+    void passPurgesEveryClaimedList() {
+        when(vocabListRepository.claimForPurge(anyString(), any())).thenReturn(list("first"), list("second"), null);
+
+        assertEquals(2, worker.purgeClaimedLists());
+
+        verify(vocabListRepository).deleteById("first");
+        verify(vocabListRepository).deleteById("second");
+    }
+
+    @Test
+    void scheduledPassRunsOnThePurgeThread() {
+        when(vocabListRepository.claimForPurge(anyString(), any())).thenReturn(list("first"), (VocabList) null);
+        try {
+            worker.purgeDeletedLists();
+
+            verify(vocabListRepository, timeout(5000)).deleteById("first");
+        } finally {
+            worker.shutdown();
+        }
+    }
+
+    private static VocabList list(String id) {
+        VocabList list = new VocabList();
+        list.setId(id);
+        list.setDeletedAt(LocalDateTime.now());
+        return list;
+    }
+}
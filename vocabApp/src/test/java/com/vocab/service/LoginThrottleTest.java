@@ -0,0 +1,112 @@
+package com.vocab.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginThrottleTest {
+
+    @Test
+    void testTryAcquire_RejectsEmailPastCapacity() {
+        LoginThrottle throttle = new LoginThrottle();
+        ReflectionTestUtils.setField(throttle, "emailCapacity", 3);
+        ReflectionTestUtils.setField(throttle, "emailRefillPerMinute", 1);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, throttle.tryAcquire("Test@Example.com", "203.0.113." + i));
+        }
+        long wait = throttle.tryAcquire("test@example.com ", "203.0.113.9");
+
+        assertTrue(wait > 0 && wait <= 60_000);
+        assertEquals(0, throttle.tryAcquire("other@example.com", "203.0.113.9"));
+        assertEquals(1L, throttle.stats().get("rejectedByEmail"));
+        assertEquals(4L, throttle.stats().get("allowed"));
+    }
+
+    @Test
+    void testTryAcquire_RejectsIpAcrossEmails() {
+        LoginThrottle throttle = new LoginThrottle();
+        ReflectionTestUtils.setField(throttle, "ipCapacity", 2);
+        ReflectionTestUtils.setField(throttle, "ipRefillPerMinute", 1);
+
+        assertEquals(0, throttle.tryAcquire("a@example.com", "198.51.100.1"));
+        assertEquals(0, throttle.tryAcquire("b@example.com", "198.51.100.1"));
+
+        assertTrue(throttle.tryAcquire("c@example.com", "198.51.100.1") > 0);
+        assertEquals(0, throttle.tryAcquire("c@example.com", "198.51.100.2"));
+        assertEquals(1L, throttle.stats().get("rejectedByIp"));
+    }
+
+    @Test
+    void testTryAcquire_BucketCountStaysBounded() {
+        LoginThrottle throttle = new LoginThrottle();
+        ReflectionTestUtils.setField(throttle, "maxBuckets", 128);
+
+        for (int i = 0; i < 1000; i++) {
+            throttle.tryAcquire("user" + i + "@example.com", "10.0." + (i / 256) + "." + (i % 256));
+        }
+
+        assertTrue(throttle.size() <= 128);
+        assertTrue((long) throttle.stats().get("evictions") > 0);
+    }
+
+    @Test
+    void testTryAcquire_EvictionDoesNotRefillADrainedBucket() {
+        LoginThrottle throttle = new LoginThrottle();
+        ReflectionTestUtils.setField(throttle, "maxBuckets", 64);
+        ReflectionTestUtils.setField(throttle, "emailCapacity", 3);
+        ReflectionTestUtils.setField(throttle, "emailRefillPerMinute", 1);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, throttle.tryAcquire("victim@example.com", null));
+        }
+        for (int i = 0; i < 1000; i++) {
+            throttle.tryAcquire("flood" + i + "@example.com", null);
+        }
+
+        assertTrue(throttle.tryAcquire("victim@example.com", null) > 0);
+        assertTrue((long) throttle.stats().get("evictedBeforeRefill") > 0);
+    }
+
+    @Test
+    void testClientIp_ResolvesClientBehindTrustedProxies() {
+        LoginThrottle throttle = new LoginThrottle();
+        ReflectionTestUtils.setField(throttle, "trustedProxies", List.of("10.0.0.0/8", "192.168.1.5"));
+
+        assertEquals("203.0.113.7", throttle.clientIp("10.1.2.3", "203.0.113.7"));
+        assertEquals("203.0.113.7", throttle.clientIp("10.1.2.3", "198.51.100.9, 203.0.113.7, 192.168.1.5"));
+        assertEquals("10.0.0.1", throttle.clientIp("10.1.2.3", "10.0.0.1"));
+        assertEquals("10.1.2.3", throttle.clientIp("10.1.2.3", null));
+        // a client that isn't a trusted proxy can't pick its own bucket
+        assertEquals("198.51.100.1", throttle.clientIp("198.51.100.1", "203.0.113.7"));
+        assertEquals("198.51.100.1", throttle.clientIp("198.51.100.1", null));
+    }
+
+    @Test
+    void testTryAcquire_ClientsBehindProxyGetTheirOwnBuckets() {
+        LoginThrottle throttle = new LoginThrottle();
+        ReflectionTestUtils.setField(throttle, "trustedProxies", List.of("10.0.0.0/8"));
+        ReflectionTestUtils.setField(throttle, "ipCapacity", 2);
+        ReflectionTestUtils.setField(throttle, "ipRefillPerMinute", 1);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, throttle.tryAcquire("user" + i + "@example.com",
+                    throttle.clientIp("10.0.0.2", "203.0.113." + i)));
+        }
+        assertEquals(0L, throttle.stats().get("rejectedByIp"));
+    }
+
+    @Test
+    void testTryAcquire_DisabledAllowsEverything() {
+        LoginThrottle throttle = new LoginThrottle();
+        ReflectionTestUtils.setField(throttle, "enabled", false);
+
+        for (int i = 0; i < 50; i++) {
+            assertEquals(0, throttle.tryAcquire("test@example.com", "203.0.113.7"));
+        }
+        assertEquals(0, throttle.size());
+    }
+}
@@ -0,0 +1,125 @@
+package com.vocab.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingServiceTest {
+
+    @Test
+    void testEncode_ResultMatchesOriginal() {
+        PasswordHashingService service = new PasswordHashingService();
+        try {
+            String hash = service.encode("password123").join();
+
+            assertNotEquals("password123", hash);
+            assertTrue(service.matches("password123", hash).join());
+            assertFalse(service.matches("wrongpassword", hash).join());
+            assertEquals(3L, service.stats().get("completed"));
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void testSubmit_RejectsWhenQueueIsFull() throws Exception {
+        PasswordHashingService service = new PasswordHashingService();
+        ReflectionTestUtils.setField(service, "threads", 1);
+        ReflectionTestUtils.setField(service, "queueCapacity", 1);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            CompletableFuture<String> first = service.submit(() -> {
+                running.countDown();
+                await(release);
+                return "first";
+            });
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+            CompletableFuture<String> second = service.submit(() -> "second");
+
+            CompletableFuture<String> third = service.submit(() -> "third");
+
+            CompletionException error = assertThrows(CompletionException.class, third::join);
+            assertTrue(PasswordHashingService.isSaturated(error));
+            assertEquals(1L, service.stats().get("rejected"));
+            assertEquals(1, service.stats().get("queued"));
+
+            release.countDown();
+            assertEquals("first", first.get(5, TimeUnit.SECONDS));
+            assertEquals("second", second.get(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void testStrengthFor_PicksHighestStrengthWithinTarget() {
+        // strength 8 at 4 ms: 10 -> 16 ms, 12 -> 64 ms, 14 -> 256 ms
+        assertEquals(12, PasswordHashingService.strengthFor(4.0, 100, 10, 14));
+        assertEquals(14, PasswordHashingService.strengthFor(0.5, 1000, 10, 14));
+        assertEquals(10, PasswordHashingService.strengthFor(50.0, 100, 10, 14));
+    }
+
+    @Test
+    void testNeedsRehash_CalibratedStrengthOnlyUpgrades() {
+        PasswordHashingService service = new PasswordHashingService();
+        service.useStrength(5);
+
+        assertFalse(service.needsRehash(new BCryptPasswordEncoder(5).encode("password123")));
+        assertTrue(service.needsRehash(new BCryptPasswordEncoder(4).encode("password123")));
+        assertFalse(service.needsRehash(new BCryptPasswordEncoder(6).encode("password123")));
+        assertFalse(service.needsRehash(new BCryptPasswordEncoder(8).encode("password123")));
+        assertFalse(service.needsRehash("not-a-bcrypt-hash"));
+        assertFalse(service.needsRehash(null));
+    }
+
+    @Test
+    void testNeedsRehash_FixedStrengthDowngradesPastMargin() {
+        PasswordHashingService service = new PasswordHashingService();
+        ReflectionTestUtils.setField(service, "configuredStrength", 5);
+        service.calibrate();
+
+        assertEquals(5, service.getStrength());
+        assertTrue(service.needsRehash(new BCryptPasswordEncoder(4).encode("password123")));
+        assertFalse(service.needsRehash(new BCryptPasswordEncoder(6).encode("password123")));
+        assertTrue(service.needsRehash(new BCryptPasswordEncoder(7).encode("password123")));
+    }
+
+    @Test
+    void testRehashIfNeeded_UpgradesToCurrentStrength() {
+        PasswordHashingService service = new PasswordHashingService();
+        service.useStrength(5);
+        try {
+            String current = service.rehashIfNeeded("password123", new BCryptPasswordEncoder(5).encode("password123")).join();
+            String upgraded = service.rehashIfNeeded("password123", new BCryptPasswordEncoder(4).encode("password123")).join();
+
+            assertNull(current);
+            assertEquals(5, PasswordHashingService.costOf(upgraded));
+            assertTrue(service.matches("password123", upgraded).join());
+            assertEquals(1L, service.stats().get("rehashed"));
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void testIsSaturated_OtherFailuresAreNot() {
+        assertFalse(PasswordHashingService.isSaturated(new CompletionException(new IllegalStateException("boom"))));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.vocab.service;
+
+import com.vocab.model.Dictionary;
+import com.vocab.model.WordInList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuizGeneratorTest {
+
+    private QuizGenerator generator;
+
+    private static Dictionary entry(String word, String shortdef, String partOfSpeech, String category) {
+        Dictionary entry = new Dictionary();
+        entry.setWord(word);
+        entry.setShortdef(shortdef);
+        entry.setPartOfSpeech(partOfSpeech);
+        entry.setCategory(category);
+        return entry;
+    }
+
+    private static WordInList saved(String word, String definition) {
+        WordInList saved = new WordInList();
+        saved.setId(word + "-id");
+        saved.setWord(word);
+        saved.setDefinition(definition);
+        return saved;
+    }
+
+    @BeforeEach
+    void setUp() {
+        generator = new QuizGenerator();
+        List<Dictionary> words = new ArrayList<>();
+        words.add(entry("lucid", "clear and easy to understand", "adjective", "academic"));
+        words.add(entry("terse", "using few words", "adjective", "academic"));
+        words.add(entry("verbose", "using more words than needed", "adjective", "academic"));
+        words.add(entry("candid", "truthful and straightforward", "adjective", "academic"));
+        words.add(entry("ameliorate", "to make something better", "verb", "academic"));
+        words.add(entry("obfuscate", "to make unclear", "verb", "academic"));
+        generator.rebuild(words);
+    }
+
+    @Test
+    void distractorsShareThePartOfSpeech() {
+        for (int run = 0; run < 20; run++) {
+            List<QuizGenerator.Question> questions = generator.generate(
+                    List.of(saved("lucid", "clear and easy to understand")), 4);
+
+            QuizGenerator.Question question = questions.get(0);
+            assertEquals("adjective", question.getPartOfSpeech());
+            assertEquals(4, question.getChoices().size());
+            assertEquals("clear and easy to understand", question.getChoices().get(question.getAnswerIndex()));
+            assertEquals(4, new HashSet<>(question.getChoices()).size());
+            assertFalse(question.getChoices().contains("to make something better"));
+        }
+    }
+
+    @Test
+    void widensToOtherBucketsWhenThePartOfSpeechRunsOut() {
+        QuizGenerator.Question question = generator.generate(
+                List.of(saved("obfuscate", "to make unclear")), 5).get(0);
+
+        assertEquals(5, question.getChoices().size());
+        assertEquals(5, new HashSet<>(question.getChoices()).size());
+        assertTrue(question.getChoices().contains("to make something better"));
+    }
+
+    @Test
+    void fallsBackToTheDictionaryDefinition() {
+        QuizGenerator.Question question = generator.generate(List.of(saved("terse", null)), 3).get(0);
+
+        assertEquals("using few words", question.getChoices().get(question.getAnswerIndex()));
+    }
+
+    @Test
+    void skipsWordsWithoutAnyDefinition() {
+        assertTrue(generator.generate(List.of(saved("unknown", null)), 4).isEmpty());
+    }
+}
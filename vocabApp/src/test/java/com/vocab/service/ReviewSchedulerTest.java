@@ -0,0 +1,60 @@
+package com.vocab.service;
+
+import com.vocab.model.WordInList;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReviewSchedulerTest {
+
+    private final ReviewScheduler scheduler = new ReviewScheduler();
+
+    private final LocalDateTime now = LocalDateTime.of(2024, 3, 1, 9, 0);
+
+    @Test
+    void intervalsGrowOneSixThenByEase() {
+        WordInList word = new WordInList();
+
+        scheduler.review(word, 5, now);
+        assertEquals(1, word.getIntervalDays());
+        scheduler.review(word, 5, now);
+        assertEquals(6, word.getIntervalDays());
+        scheduler.review(word, 5, now);
+
+        assertEquals(3, word.getRepetitions());
+        assertEquals(2.8, word.getEaseFactor(), 1e-9);
+        assertEquals(16, word.getIntervalDays());
+        assertEquals(now.plusDays(16), word.getDueAt());
+        assertEquals(now, word.getLastReviewedAt());
+    }
+
+    @Test
+    void failedRecallResetsToOneDay() {
+        WordInList word = new WordInList();
+        word.setRepetitions(4);
+        word.setIntervalDays(30);
+
+        scheduler.review(word, 1, now);
+
+        assertEquals(0, word.getRepetitions());
+        assertEquals(1, word.getIntervalDays());
+        assertEquals(now.plusDays(1), word.getDueAt());
+        assertEquals(1.96, word.getEaseFactor(), 1e-9);
+    }
+
+    @Test
+    void easeNeverDropsBelowFloor() {
+        WordInList word = new WordInList();
+        for (int i = 0; i < 10; i++) {
+            scheduler.review(word, 0, now);
+        }
+        assertEquals(1.3, word.getEaseFactor(), 1e-9);
+    }
+
+    @Test
+    void rejectsGradeOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> scheduler.review(new WordInList(), 6, now));
+    }
+}
@@ -0,0 +1,72 @@
+package com.vocab.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenServiceTest {
+
+    @Test
+    void testIssue_TokensVerifyForTheirOwnType() {
+        TokenService tokenService = new TokenService();
+
+        Map<String, Object> tokens = tokenService.issue("user123", 3);
+        String accessToken = (String) tokens.get("accessToken");
+        String refreshToken = (String) tokens.get("refreshToken");
+
+        assertEquals("user123", tokenService.verifyAccessToken(accessToken));
+        assertEquals(new TokenService.RefreshToken("user123", 3), tokenService.verifyRefreshToken(refreshToken));
+        assertNull(tokenService.verifyAccessToken(refreshToken));
+        assertNull(tokenService.verifyRefreshToken(accessToken));
+        assertEquals("Bearer", tokens.get("tokenType"));
+    }
+
+    @Test
+    void testVerify_RejectsTamperedToken() {
+        TokenService tokenService = new TokenService();
+        String token = (String) tokenService.issue("user123", 0).get("accessToken");
+        String forged = tokenService.sign(TokenService.TYPE_ACCESS, "someoneElse", Instant.now().getEpochSecond() + 60, 0);
+        String swapped = forged.substring(0, forged.indexOf('.')) + token.substring(token.indexOf('.'));
+
+        assertNull(tokenService.verifyAccessToken(swapped));
+        assertNull(tokenService.verifyAccessToken(token + "x"));
+        assertNull(tokenService.verifyAccessToken("not-a-token"));
+        assertNull(tokenService.verifyAccessToken(null));
+    }
+
+    @Test
+    void testVerify_RejectsExpiredToken() {
+        TokenService tokenService = new TokenService();
+
+        String expired = tokenService.sign(TokenService.TYPE_ACCESS, "user123", Instant.now().getEpochSecond() - 1, 0);
+
+        assertNull(tokenService.verifyAccessToken(expired));
+    }
+
+    @Test
+    void testVerify_SharedSecretWorksAcrossInstances() {
+        TokenService first = new TokenService();
+        TokenService second = new TokenService();
+        TokenService other = new TokenService();
+        ReflectionTestUtils.setField(first, "secret", "shared-secret-for-tests-0123456789");
+        ReflectionTestUtils.setField(second, "secret", "shared-secret-for-tests-0123456789");
+        ReflectionTestUtils.setField(other, "secret", "a-different-secret-for-tests-0123456789");
+
+        String token = (String) first.issue("user123", 0).get("accessToken");
+
+        assertEquals("user123", second.verifyAccessToken(token));
+        assertNull(other.verifyAccessToken(token));
+    }
+
+    @Test
+    void testCheckSecret_RejectsShortSecret() {
+        TokenService tokenService = new TokenService();
+        ReflectionTestUtils.setField(tokenService, "secret", "too-short");
+
+        assertThrows(IllegalStateException.class, tokenService::checkSecret);
+    }
+}
@@ -0,0 +1,111 @@
+package com.vocab.service;
+
+import com.vocab.model.VocabList;
+import com.vocab.repository.JobLeaseRepository;
+import com.vocab.repository.ListWordCount;
+import com.vocab.repository.VocabListRepository;
+import com.vocab.repository.WordInListRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VocabListCountReconcilerTest {
+
+    @Mock
+    private WordInListRepository wordInListRepository;
+
+    @Mock
+    private VocabListRepository vocabListRepository;
+
+    @Mock
+    private JobLeaseRepository jobLeaseRepository;
+
+    @InjectMocks
+    private VocabListCountReconciler reconciler;
+
+    private static VocabList list(String id, long wordCount, LocalDateTime lastAddedAt) {
+        VocabList list = new VocabList();
+        list.setId(id);
+        list.setWordCount(wordCount);
+        list.setLastAddedAt(lastAddedAt);
+        return list;
+    }
+
+    @Test
+    void correctsOnlyListsThatDrifted() {
+        LocalDateTime noon = LocalDateTime.of(2024, 1, 1, 12, 0);
+        when(jobLeaseRepository.tryAcquire(eq(VocabListCountReconciler.LEASE), anyString(), any())).thenReturn(true);
+        VocabList drifted = list("drifted", 4, noon);
+        VocabList emptied = list("emptied", 2, noon);
+        when(vocabListRepository.findCountsPage(null, 500)).thenReturn(List.of(list("current", 3, noon), drifted, emptied));
+        when(wordInListRepository.countWordsByList(List.of("current", "drifted", "emptied"))).thenReturn(List.of(
+                new ListWordCount("current", 3, noon),
+                new ListWordCount("drifted", 5, noon)));
+        when(vocabListRepository.applyWordCounts(anyList(), anyList())).thenReturn(2);
+
+        assertEquals(2, reconciler.reconcile());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<VocabList>> observed = ArgumentCaptor.forClass(List.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ListWordCount>> corrections = ArgumentCaptor.forClass(List.class);
+        verify(vocabListRepository).applyWordCounts(observed.capture(), corrections.capture());
+        assertEquals(List.of(drifted, emptied), observed.getValue());
+        List<ListWordCount> applied = corrections.getValue();
+        assertEquals(2, applied.size());
+        assertEquals("drifted", applied.get(0).getListId());
+        assertEquals(5, applied.get(0).getCount());
+        assertEquals("emptied", applied.get(1).getListId());
+        assertEquals(0, applied.get(1).getCount());
+        assertNull(applied.get(1).getLastAddedAt());
+        verify(jobLeaseRepository).release(eq(VocabListCountReconciler.LEASE), anyString());
+    }
+
+    @Test
+    void pagesThroughListsInIdOrder() {
+        ReflectionTestUtils.setField(reconciler, "pageSize", 2);
+        when(jobLeaseRepository.tryAcquire(eq(VocabListCountReconciler.LEASE), anyString(), any())).thenReturn(true);
+        when(vocabListRepository.findCountsPage(null, 2)).thenReturn(List.of(list("a", 0, null), list("b", 0, null)));
+        when(vocabListRepository.findCountsPage("b", 2)).thenReturn(List.of(list("c", 1, null)));
+        when(wordInListRepository.countWordsByList(anyList())).thenReturn(List.of());
+        when(vocabListRepository.applyWordCounts(anyList(), anyList())).thenReturn(0, 1);
+
+        assertEquals(1, reconciler.reconcile());
+
+        verify(wordInListRepository).countWordsByList(List.of("a", "b"));
+        verify(wordInListRepository).countWordsByList(List.of("c"));
+        verify(vocabListRepository, times(2)).findCountsPage(any(), eq(2));
+    }
+
+    @Test
+    void skipsWhileAnotherInstanceHoldsTheLease() {
+        when(jobLeaseRepository.tryAcquire(eq(VocabListCountReconciler.LEASE), anyString(), any())).thenReturn(false);
+
+        assertEquals(0, reconciler.reconcile());
+
+        verifyNoInteractions(vocabListRepository, wordInListRepository);
+        verify(jobLeaseRepository, never()).release(anyString(), anyString());
+    }
+
+    @Test
+    void nothingToCorrect() {
+        when(jobLeaseRepository.tryAcquire(eq(VocabListCountReconciler.LEASE), anyString(), any())).thenReturn(true);
+        when(vocabListRepository.findCountsPage(null, 500)).thenReturn(List.of(list("empty", 0, null)));
+        when(wordInListRepository.countWordsByList(List.of("empty"))).thenReturn(List.of());
+
+        assertEquals(0, reconciler.reconcile());
+        verify(vocabListRepository).applyWordCounts(List.of(), List.of());
+    }
+}